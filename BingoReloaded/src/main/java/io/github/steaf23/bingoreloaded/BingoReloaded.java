@@ -35,6 +35,7 @@ import io.github.steaf23.bingoreloaded.placeholder.BingoReloadedPlaceholderExpan
 import io.github.steaf23.bingoreloaded.settings.BingoSettings;
 import io.github.steaf23.bingoreloaded.settings.CustomKit;
 import io.github.steaf23.bingoreloaded.tasks.BingoStatistic;
+import io.github.steaf23.bingoreloaded.tasks.TaskGenerator;
 import io.github.steaf23.bingoreloaded.tasks.data.TaskData;
 import io.github.steaf23.bingoreloaded.util.bstats.Metrics;
 import io.github.steaf23.playerdisplay.PlayerDisplay;
@@ -129,6 +130,7 @@ public class BingoReloaded extends JavaPlugin
         addDataAccessor(new TagDataAccessor(this, "data/player_stats", false));
         addDataAccessor(new TagDataAccessor(this, "data/teams", false));
         addDataAccessor(new TagDataAccessor(this, "data/players", false));
+        addDataAccessor(new TagDataAccessor(this, "data/card_maps", false));
 
         PLACEHOLDER_API_ENABLED = Bukkit.getPluginManager().getPlugin("PlaceholderAPI") != null;
         if (PLACEHOLDER_API_ENABLED) {
@@ -228,6 +230,13 @@ public class BingoReloaded extends JavaPlugin
             Bukkit.getScheduler().runTaskLater(INSTANCE, task, delay);
     }
 
+    /**
+     * Run task on a worker thread, the task should not access the world and should use scheduleTask to hand its result back to the main thread.
+     */
+    public static void scheduleAsyncTask(@NotNull Consumer<BukkitTask> task) {
+        Bukkit.getScheduler().runTaskAsynchronously(INSTANCE, task);
+    }
+
     public static String getDefaultTasksVersion() {
         return CARD_1_21;
     }
@@ -303,6 +312,7 @@ public class BingoReloaded extends JavaPlugin
         getDataAccessor("data/player_stats").load();
         getDataAccessor("data/teams").load();
         getDataAccessor("data/players").load();
+        TaskGenerator.invalidateCompiledCards();
     }
 
     public void reloadLanguage() {
@@ -9,58 +9,36 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 public class BingoTaskCard extends TaskCard
 {
+    private final Map<BingoTeam, CardLineCounter> completedLines;
+
     public BingoTaskCard(@NotNull CardMenu menu, CardSize size) {
         super(menu, size);
+        this.completedLines = new HashMap<>();
     }
 
     @Override
     public boolean hasTeamWon(BingoTeam team) {
-        List<GameTask> allTasks = getTasks();
-        //check for rows and columns
-        for (int y = 0; y < size.size; y++) {
-            boolean completedRow = true;
-            boolean completedCol = true;
-            for (int x = 0; x < size.size; x++) {
-                int indexRow = size.size * y + x;
-                if (!allTasks.get(indexRow).isCompletedByTeam(team)) {
-                    completedRow = false;
-                }
-
-                int indexCol = size.size * x + y;
-                if (!allTasks.get(indexCol).isCompletedByTeam(team)) {
-                    completedCol = false;
-                }
-            }
+        CardLineCounter lines = completedLines.get(team);
+        return lines != null && lines.hasCompletedLine();
+    }
 
-            if (completedRow || completedCol) {
-                return true;
-            }
-        }
+    @Override
+    protected void indexTasks(List<GameTask> tasks) {
+        completedLines.clear();
+        super.indexTasks(tasks);
+    }
 
-        // check for diagonals
-        boolean completedDiagonal1 = true;
-        for (int idx = 0; idx < size.fullCardSize; idx += size.size + 1) {
-            if (!allTasks.get(idx).isCompletedByTeam(team)) {
-                completedDiagonal1 = false;
-                break;
-            }
-        }
+    @Override
+    protected void markSlotCompleted(int slot, BingoTeam team) {
+        super.markSlotCompleted(slot, team);
 
-        boolean completedDiagonal2 = true;
-        for (int idx = 0; idx < size.fullCardSize; idx += size.size - 1) {
-            if (idx != 0 && idx != size.fullCardSize - 1) {
-                if (!allTasks.get(idx).isCompletedByTeam(team)) {
-                    completedDiagonal2 = false;
-                    break;
-                }
-            }
-        }
-        return completedDiagonal1 || completedDiagonal2;
+        completedLines.computeIfAbsent(team, t -> new CardLineCounter(size.size)).markCompleted(slot);
     }
 
     @Override
@@ -1,6 +1,8 @@
 package io.github.steaf23.bingoreloaded.cards;
 
+import io.github.steaf23.bingoreloaded.BingoReloaded;
 import io.github.steaf23.bingoreloaded.data.BingoMessage;
+import io.github.steaf23.bingoreloaded.data.config.BingoConfigurationData;
 import io.github.steaf23.bingoreloaded.data.config.BingoOptions;
 import io.github.steaf23.bingoreloaded.gameloop.phase.BingoGame;
 import io.github.steaf23.bingoreloaded.gui.inventory.card.CardMenu;
@@ -19,6 +21,7 @@ import io.github.steaf23.playerdisplay.inventory.MenuBoard;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 public class CardFactory
@@ -46,9 +49,20 @@ public class CardFactory
         };
     }
 
-    public static Set<TaskCard> generateCardsForGame(BingoGame game, MenuBoard menuBoard, boolean includeAdvancements, boolean includeStatistics, GameTask.TaskDisplayMode advancementDisplayMode, GameTask.TaskDisplayMode statisticDisplayMode) {
+    public static TaskGenerator.GeneratorSettings createGeneratorSettings(BingoSettings settings, BingoConfigurationData config) {
+        boolean includeAdvancements = !(BingoReloaded.areAdvancementsDisabled() || config.getOptionValue(BingoOptions.DISABLE_ADVANCEMENTS));
+        boolean includeStatistics = !config.getOptionValue(BingoOptions.DISABLE_STATISTICS);
+
+        GameTask.TaskDisplayMode advancementDisplayMode = config.getOptionValue(BingoOptions.SHOW_UNIQUE_ADVANCEMENT_ITEMS) ? GameTask.TaskDisplayMode.UNIQUE_TASK_ITEMS : GameTask.TaskDisplayMode.GENERIC_TASK_ITEMS;
+        GameTask.TaskDisplayMode statisticDisplayMode = config.getOptionValue(BingoOptions.SHOW_UNIQUE_STATISTIC_ITEMS) ? GameTask.TaskDisplayMode.UNIQUE_TASK_ITEMS : GameTask.TaskDisplayMode.GENERIC_TASK_ITEMS;
+        return new TaskGenerator.GeneratorSettings(settings.card(), settings.seed(), includeAdvancements, includeStatistics, settings.size(), advancementDisplayMode, statisticDisplayMode);
+    }
+
+    /**
+     * @param pregenerator used to get tasks generated ahead of time, cards that have not been prepared are generated right away.
+     */
+    public static Set<TaskCard> generateCardsForGame(BingoGame game, MenuBoard menuBoard, TaskGenerator.GeneratorSettings generatorSettings, CardTaskPregenerator pregenerator) {
         BingoSettings settings = game.getSettings();
-        TaskGenerator.GeneratorSettings generatorSettings = new TaskGenerator.GeneratorSettings(settings.card(), settings.seed(), includeAdvancements, includeStatistics, settings.size(), advancementDisplayMode, statisticDisplayMode);
 
         Set<TaskCard> uniqueCards = new HashSet<>();
 
@@ -58,7 +72,7 @@ public class CardFactory
             game.getTeamManager().getActiveTeams().forEach(t -> {
                 t.outOfTheGame = false;
                 TaskCard card = masterCard.copy(BingoMessage.SHOW_TEAM_CARD_NAME.asPhrase(t.getColoredName()));
-                card.generateCard(generatorSettings);
+                generateCard(card, generatorSettings, pregenerator);
                 t.setCard(card);
                 uniqueCards.add(card);
                 
@@ -67,7 +81,7 @@ public class CardFactory
             });
         } else {
             // Otherwise generate the card only once and copy it for all teams
-            masterCard.generateCard(generatorSettings);
+            generateCard(masterCard, generatorSettings, pregenerator);
             
             // POST the master card data to API (shared card, no specific team)
             postCardToApi(masterCard, null);
@@ -82,6 +96,15 @@ public class CardFactory
         return uniqueCards;
     }
 
+    private static void generateCard(TaskCard card, TaskGenerator.GeneratorSettings generatorSettings, CardTaskPregenerator pregenerator) {
+        List<GameTask> preparedTasks = pregenerator.take(generatorSettings);
+        if (preparedTasks == null) {
+            card.generateCard(generatorSettings);
+        } else {
+            card.generateCard(generatorSettings, preparedTasks);
+        }
+    }
+
     private static void postCardToApi(TaskCard card, io.github.steaf23.bingoreloaded.player.team.BingoTeam team) {
         // TODO: Make this configurable via config file
         String apiBaseUrl = "http://live-cc-api.lynn6.top";
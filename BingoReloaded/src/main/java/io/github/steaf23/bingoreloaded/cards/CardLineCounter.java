@@ -0,0 +1,49 @@
+package io.github.steaf23.bingoreloaded.cards;
+
+/**
+ * Counts the completed slots of a single team in each row, column and diagonal of a card,
+ * so completing a slot only has to check the lines going through that slot.
+ */
+public class CardLineCounter
+{
+    private final int size;
+    // Amount of completed slots in each row, column and diagonal, in that order.
+    private final int[] completedPerLine;
+    private boolean lineCompleted;
+
+    /**
+     * @param size width (and height) of the card.
+     */
+    public CardLineCounter(int size) {
+        this.size = size;
+        this.completedPerLine = new int[size * 2 + 2];
+        this.lineCompleted = false;
+    }
+
+    /**
+     * Mark slot as completed, each slot should only be marked once.
+     * @return true if this slot completed any line.
+     */
+    public boolean markCompleted(int slot) {
+        int x = slot % size;
+        int y = slot / size;
+        boolean completedLine = ++completedPerLine[y] == size;
+        completedLine |= ++completedPerLine[size + x] == size;
+        if (x == y) {
+            completedLine |= ++completedPerLine[size * 2] == size;
+        }
+        if (x + y == size - 1) {
+            completedLine |= ++completedPerLine[size * 2 + 1] == size;
+        }
+
+        lineCompleted |= completedLine;
+        return completedLine;
+    }
+
+    /**
+     * @return true if any row, column or diagonal has been completed.
+     */
+    public boolean hasCompletedLine() {
+        return lineCompleted;
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.steaf23.bingoreloaded.cards;
+
+import io.github.steaf23.bingoreloaded.BingoReloaded;
+import io.github.steaf23.bingoreloaded.tasks.GameTask;
+import io.github.steaf23.bingoreloaded.tasks.TaskGenerator;
+import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Generates the tasks for the cards of the next game on a worker thread, so starting the game only has to adopt them.
+ * The worker only shuffles a snapshot of the compiled card, reading the card data and building the task items is done on the main thread.
+ * Prepared tasks are only handed out when the game starts with the same generator settings and the card data has not been edited since.
+ */
+public class CardTaskPregenerator
+{
+    private TaskGenerator.GeneratorSettings settings;
+    private TaskGenerator.CompiledCard compiledCard;
+    private int compiledCardsVersion;
+    private final Deque<List<GameTask>> preparedCards;
+    private int cardsBeingPrepared;
+    // Incremented when the prepared cards are cleared, to discard cards that were still being generated for the old settings.
+    private int generation;
+
+    public CardTaskPregenerator() {
+        this.settings = null;
+        this.compiledCard = null;
+        this.compiledCardsVersion = 0;
+        this.preparedCards = new ArrayDeque<>();
+        this.cardsBeingPrepared = 0;
+        this.generation = 0;
+    }
+
+    /**
+     * Start generating tasks for the given amount of cards, unless enough cards have already been (or are being) prepared for these settings.
+     */
+    public void prepare(TaskGenerator.GeneratorSettings newSettings, int cardCount) {
+        if (!isPreparedFor(newSettings)) {
+            clear();
+            settings = newSettings;
+            // Compile the card on the main thread, since that reads the card and list data.
+            compiledCard = TaskGenerator.getCompiledCard(newSettings);
+            compiledCardsVersion = TaskGenerator.getCompiledCardsVersion();
+        }
+
+        int count = cardCount - preparedCards.size() - cardsBeingPrepared;
+        if (count <= 0) {
+            return;
+        }
+
+        cardsBeingPrepared += count;
+        int currentGeneration = generation;
+        TaskGenerator.GeneratorSettings generatorSettings = settings;
+        TaskGenerator.CompiledCard card = compiledCard;
+        BingoReloaded.scheduleAsyncTask(worker -> {
+            List<List<GameTask>> cards = new ArrayList<>();
+            try {
+                for (int i = 0; i < count; i++) {
+                    cards.add(TaskGenerator.generateCardTasks(generatorSettings, card));
+                }
+            } catch (RuntimeException e) {
+                ConsoleMessenger.error("Could not prepare the cards of the next game: " + e.getMessage());
+                cards.clear();
+            }
+            if (!BingoReloaded.getInstance().isEnabled()) {
+                return;
+            }
+
+            BingoReloaded.scheduleTask(t -> {
+                if (currentGeneration != generation) {
+                    return;
+                }
+                // Also lower the count when preparing failed, so these cards can be prepared again.
+                cardsBeingPrepared -= count;
+                // Items can only be built on the main thread.
+                cards.forEach(tasks -> tasks.forEach(GameTask::prepareItem));
+                preparedCards.addAll(cards);
+            });
+        });
+    }
+
+    /**
+     * @return tasks for a single card that have been prepared using the given settings, or null if there are none ready.
+     */
+    public @Nullable List<GameTask> take(TaskGenerator.GeneratorSettings settings) {
+        if (!isPreparedFor(settings)) {
+            return null;
+        }
+        return preparedCards.poll();
+    }
+
+    public void clear() {
+        generation++;
+        settings = null;
+        compiledCard = null;
+        preparedCards.clear();
+        cardsBeingPrepared = 0;
+    }
+
+    private boolean isPreparedFor(TaskGenerator.GeneratorSettings settings) {
+        return settings.equals(this.settings) && compiledCardsVersion == TaskGenerator.getCompiledCardsVersion();
+    }
+}
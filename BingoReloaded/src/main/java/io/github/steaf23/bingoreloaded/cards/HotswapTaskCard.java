@@ -1,9 +1,11 @@
 package io.github.steaf23.bingoreloaded.cards;
 
+import io.github.steaf23.bingoreloaded.BingoReloaded;
 import io.github.steaf23.bingoreloaded.cards.hotswap.ExpiringHotswapTask;
+import io.github.steaf23.bingoreloaded.cards.hotswap.HotswapExpirationQueue;
 import io.github.steaf23.bingoreloaded.cards.hotswap.HotswapTaskHolder;
+import io.github.steaf23.bingoreloaded.cards.hotswap.HotswapTaskPool;
 import io.github.steaf23.bingoreloaded.cards.hotswap.SimpleHotswapTask;
-import io.github.steaf23.bingoreloaded.data.BingoCardData;
 import io.github.steaf23.bingoreloaded.data.BingoMessage;
 import io.github.steaf23.bingoreloaded.data.config.BingoConfigurationData;
 import io.github.steaf23.bingoreloaded.event.BingoPlaySoundEvent;
@@ -26,10 +28,12 @@ import org.bukkit.Sound;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public class HotswapTaskCard extends TaskCard
@@ -44,31 +48,46 @@ public class HotswapTaskCard extends TaskCard
     private final boolean expireTasksAutomatically;
 
     private final List<HotswapTaskHolder> taskHolders;
+    private final HotswapExpirationQueue expirationQueue;
+    // Tasks of all holders, only rebuilt when a task gets swapped.
+    private List<GameTask> taskSnapshot;
     private Supplier<GameTask> bingoTaskGenerator;
+    private Function<TaskData, GameTask> taskFactory;
 
-    private final List<GameTask> completedTasks;
-    private final BingoCardData cardData;
     // Used to call the play sound event for expiring tasks
     private final BingoGame game;
     private final TaskProgressTracker progressTracker;
 
-    // List used to draw random tasks from
-    private final List<TaskData> randomTasks;
+    // Pool used to draw random tasks from
+    private final Random taskPoolRandom;
+    private final HotswapTaskPool taskPool;
+
+    private static final int PREPARED_TASK_COUNT = 4;
+    // Replacement tasks that have been drawn from the pool and created ahead of time on a worker thread.
+    private final Deque<GameTask> preparedTasks;
+    private int tasksBeingPrepared;
+    // Incremented when the card gets new tasks, to discard tasks that were still being prepared for the old ones.
+    private int preparationGeneration;
 
     public HotswapTaskCard(@NotNull HotswapCardMenu menu, CardSize size, BingoGame game, TaskProgressTracker progressTracker, int winningScore, BingoConfigurationData.HotswapConfig config) {
         super(menu, size);
         this.randomExpiryProvider = new Random();
         this.taskHolders = new ArrayList<>();
-        this.completedTasks = new ArrayList<>();
+        this.expirationQueue = new HotswapExpirationQueue();
+        this.taskSnapshot = List.of();
         this.bingoTaskGenerator = () -> null;
-        this.cardData = new BingoCardData();
         this.game = game;
         this.progressTracker = progressTracker;
         this.minExpirationTime = config.minimumExpiration();
         this.maxExpirationTime = config.maximumExpiration();
         this.recoveryTimeSeconds = config.recoveryTime();
         this.showExpirationAsDurability = config.showExpirationAsDurability() && game.getSettings().expireHotswapTasks();
-        this.randomTasks = new ArrayList<>();
+        this.taskPoolRandom = new Random();
+        this.taskPool = new HotswapTaskPool(taskPoolRandom);
+        this.preparedTasks = new ArrayDeque<>();
+        this.tasksBeingPrepared = 0;
+        this.preparationGeneration = 0;
+        this.taskFactory = data -> null;
         this.expireTasksAutomatically = game.getSettings().expireHotswapTasks();
 
         game.getTimer().addNotifier(this::updateTaskExpiration);
@@ -110,105 +129,188 @@ public class HotswapTaskCard extends TaskCard
      * Overridden to set up the task generator
      */
     @Override
-    public void generateCard(TaskGenerator.GeneratorSettings settings) {
-        super.generateCard(settings);
+    public void generateCard(TaskGenerator.GeneratorSettings settings, List<GameTask> tasks) {
+        super.generateCard(settings, tasks);
 
         if (settings.seed() != 0) {
             randomExpiryProvider.setSeed(settings.seed());
+            taskPoolRandom.setSeed(settings.seed());
         }
 
+        taskPool.fill(TaskGenerator.getAllTasks(settings.cardName(), settings.includeStatistics(), settings.includeAdvancements()));
+        taskFactory = data -> TaskGenerator.createTaskFromData(data, settings.advancementDisplayMode(), settings.statisticDisplayMode());
         bingoTaskGenerator = () -> {
-            if (randomTasks.isEmpty()) {
-                randomTasks.addAll(cardData.getAllTasks(settings.cardName(), settings.includeStatistics(), settings.includeAdvancements()));
-                // Do not add the tasks that are currently on the card.
-                // This will result in less duplicates overall when cycling through tasks.
-                randomTasks.removeIf(data -> {
-                    for (GameTask task : getTasks()) {
-                        if (task.data.isTaskEqual(data)) {
-                            return true;
-                        }
-                    }
-                    return false;
-                });
-                Collections.shuffle(randomTasks, randomExpiryProvider);
-            }
-            if (randomTasks.isEmpty()) {
-                return GameTask.simpleItemTask(Material.DIRT, 1);
+            GameTask task = preparedTasks.poll();
+            if (task == null) {
+                // Nothing has been prepared in time, so draw the task right now instead.
+                TaskData data = taskPool.draw();
+                task = data == null ? GameTask.simpleItemTask(Material.DIRT, 1) : taskFactory.apply(data);
             }
+            // Items can only be built on the main thread.
+            task.prepareItem();
 
-            TaskData data = randomTasks.removeLast();
-            return TaskGenerator.createTaskFromData(data, settings.advancementDisplayMode(), settings.statisticDisplayMode());
+            prepareReplacementTasks();
+            return task;
         };
+        prepareReplacementTasks();
     }
 
     @Override
     public void setTasks(List<GameTask> tasks) {
         taskHolders.clear();
-        if (expireTasksAutomatically) {
-            for (GameTask task : tasks) {
-                int expirationTime = randomExpiryProvider.nextInt(minExpirationTime * 60, (maxExpirationTime * 60) + 1);
-                taskHolders.add(new ExpiringHotswapTask(task, expirationTime, recoveryTimeSeconds, showExpirationAsDurability));
-            }
-        } else {
-            for (GameTask task : tasks) {
-                taskHolders.add(new SimpleHotswapTask(task, recoveryTimeSeconds));
-            }
+        expirationQueue.clear();
+        taskPool.clearCard();
+        preparedTasks.clear();
+        tasksBeingPrepared = 0;
+        preparationGeneration++;
+        for (int slot = 0; slot < tasks.size(); slot++) {
+            int expirationTime = expireTasksAutomatically ? randomExpiryProvider.nextInt(minExpirationTime * 60, (maxExpirationTime * 60) + 1) : 0;
+            taskHolders.add(createHolder(slot, tasks.get(slot), expirationTime));
+            taskPool.addToCard(tasks.get(slot).data);
         }
 
+        updateTaskSnapshot();
+        indexTasks(tasks);
         ((HotswapCardMenu)menu).updateTaskHolders(taskHolders);
     }
 
+    /**
+     * @return immutable snapshot of the current tasks, use getTasksVersion() to find out if the snapshot has changed.
+     */
     @Override
-    public void handleTaskCompleted(BingoParticipant player, GameTask task, long timeSeconds) {
-        completedTasks.add(task);
+    public List<GameTask> getTasks() {
+        return taskSnapshot;
     }
 
+    /**
+     * Overridden to start recovering the task right away.
+     */
     @Override
-    public List<GameTask> getTasks() {
-        return taskHolders.stream().map(HotswapTaskHolder::getTask).toList();
+    public void handleTaskCompleted(BingoParticipant player, GameTask task, long timeSeconds) {
+        super.handleTaskCompleted(player, task, timeSeconds);
+
+        int slot = getSlotOfTask(task);
+        if (slot == -1) {
+            return;
+        }
+
+        HotswapTaskHolder holder = taskHolders.get(slot);
+        if (!holder.isRecovering()) {
+            holder.startRecovering();
+            expirationQueue.schedule(slot, recoveryTimeSeconds);
+        }
+    }
+
+    /**
+     * Draw tasks from the pool to fill up the prepared tasks and create them on a worker thread.
+     * Drawing is done on the main thread, since the pool changes whenever a task gets swapped.
+     * Drawn tasks count as being on the card, so the pool will not hand them out twice.
+     */
+    private void prepareReplacementTasks() {
+        List<TaskData> toPrepare = new ArrayList<>();
+        int count = PREPARED_TASK_COUNT - preparedTasks.size() - tasksBeingPrepared;
+        for (int i = 0; i < count; i++) {
+            // The pool skips the tasks that are currently on the card.
+            // This will result in less duplicates overall when cycling through tasks.
+            TaskData data = taskPool.draw();
+            if (data == null) {
+                break;
+            }
+            taskPool.addToCard(data);
+            toPrepare.add(data);
+        }
+        if (toPrepare.isEmpty()) {
+            return;
+        }
+
+        tasksBeingPrepared += toPrepare.size();
+        int generation = preparationGeneration;
+        List<TaskData> taskData = List.copyOf(toPrepare);
+        Function<TaskData, GameTask> factory = taskFactory;
+        BingoReloaded.scheduleAsyncTask(worker -> {
+            List<GameTask> tasks;
+            try {
+                tasks = taskData.stream().map(factory).toList();
+            } catch (RuntimeException e) {
+                ConsoleMessenger.error("Could not prepare hot-swap tasks: " + e.getMessage());
+                tasks = List.of();
+            }
+            if (!BingoReloaded.getInstance().isEnabled()) {
+                return;
+            }
+
+            List<GameTask> preparedResult = tasks;
+            BingoReloaded.scheduleTask(t -> {
+                if (generation != preparationGeneration) {
+                    return;
+                }
+                // Also lower the count when preparing failed, so new tasks can be prepared again.
+                tasksBeingPrepared -= taskData.size();
+                if (preparedResult.isEmpty()) {
+                    // The drawn tasks will never be put on the card, so the pool can hand them out again.
+                    taskData.forEach(taskPool::removeFromCard);
+                }
+                preparedTasks.addAll(preparedResult);
+            });
+        });
+    }
+
+    private HotswapTaskHolder createHolder(int slot, GameTask task, int expirationTime) {
+        if (expireTasksAutomatically) {
+            expirationQueue.schedule(slot, expirationTime);
+            return new ExpiringHotswapTask(task, expirationTime, recoveryTimeSeconds, showExpirationAsDurability, () -> expirationQueue.getTimeLeft(slot));
+        }
+
+        expirationQueue.cancel(slot);
+        return new SimpleHotswapTask(task, () -> expirationQueue.getTimeLeft(slot));
+    }
+
+    private void updateTaskSnapshot() {
+        taskSnapshot = taskHolders.stream().map(HotswapTaskHolder::getTask).toList();
+        incrementTasksVersion();
     }
 
     public void updateTaskExpiration(long timeElapsed) {
-        int idx = 0;
         int taskExpiredCount = 0;
         int taskRecoveredCount = 0;
         GameTask lastExpiredTask = null;
         GameTask lastRecoverdTask = null;
-
-        for (HotswapTaskHolder holder : taskHolders) {
-            if (!holder.isRecovering() && holder.getTask().isCompleted()) { // start recovering item when it's been completed
+        List<GameTask> newTasks = new ArrayList<>();
+
+        // Only the slots of which the task expired or finished recovering have to be updated.
+        for (int idx : expirationQueue.advance()) {
+            HotswapTaskHolder holder = taskHolders.get(idx);
+            if (holder.isRecovering()) {
+                taskRecoveredCount++;
+                // Recovery finished, replace task with a new one.
+                GameTask newTask = bingoTaskGenerator.get();
+                if (newTask == null) {
+                    ConsoleMessenger.bug("Cannot generate new task for hot-swap", this);
+                }
+                else {
+                    taskPool.removeFromCard(holder.getTask().data);
+                    taskPool.addToCard(newTask.data);
+                }
+                lastRecoverdTask = newTask;
+
+                int expirationTime = expireTasksAutomatically ? randomExpiryProvider.nextInt(minExpirationTime, (maxExpirationTime + 1)) * 60 : 0;
+                taskHolders.set(idx, createHolder(idx, newTask, expirationTime));
+                replaceTaskInSlot(idx, holder.getTask(), newTask);
+                newTasks.add(newTask);
+            } else {
+                taskExpiredCount++;
+                lastExpiredTask = holder.getTask();
+                holder.getTask().setVoided(true);
                 holder.startRecovering();
-                continue;
+                expirationQueue.schedule(idx, recoveryTimeSeconds);
+                progressTracker.removeTask(holder.getTask());
             }
+        }
 
-            holder.updateTaskTime();
-
-            if (holder.getCurrentTime() <= 0) {
-                if (holder.isRecovering()) {
-                    taskRecoveredCount++;
-                    // Recovery finished, replace task with a new one.
-                    GameTask newTask = bingoTaskGenerator.get();
-                    if (newTask == null) {
-                        ConsoleMessenger.bug("Cannot generate new task for hot-swap", this);
-                    }
-                    lastRecoverdTask = newTask;
-
-                    if (expireTasksAutomatically) {
-                        int expirationTime = randomExpiryProvider.nextInt(minExpirationTime, (maxExpirationTime + 1)) * 60;
-                        taskHolders.set(idx, new ExpiringHotswapTask(newTask, expirationTime, recoveryTimeSeconds, showExpirationAsDurability));
-                    } else {
-                        taskHolders.set(idx, new SimpleHotswapTask(newTask, recoveryTimeSeconds));
-                    }
-                    progressTracker.startTrackingTask(newTask);
-                } else {
-                    taskExpiredCount++;
-                    lastExpiredTask = holder.getTask();
-                    holder.getTask().setVoided(true);
-                    holder.startRecovering();
-                    progressTracker.removeTask(holder.getTask());
-                }
-            }
-            idx++;
+        if (!newTasks.isEmpty()) {
+            // Tasks can only be tracked once they are part of the card.
+            updateTaskSnapshot();
+            newTasks.forEach(progressTracker::startTrackingTask);
         }
 
         if (taskExpiredCount > 0) {
@@ -243,14 +345,4 @@ public class HotswapTaskCard extends TaskCard
         }
         ((HotswapCardMenu)menu).updateTaskHolders(taskHolders);
     }
-
-    @Override
-    public int getCompleteCount(@NotNull BingoTeam team) {
-        return (int) completedTasks.stream().filter(task -> task.isCompletedByTeam(team)).count();
-    }
-
-    public int getCompleteCount(@NotNull BingoParticipant participant) {
-        return (int) completedTasks.stream()
-                .filter(t -> t.getCompletedByPlayer().isPresent() && t.getCompletedByPlayer().get().getId().equals(participant.getId())).count();
-    }
 }
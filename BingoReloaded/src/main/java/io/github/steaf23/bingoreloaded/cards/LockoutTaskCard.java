@@ -10,6 +10,11 @@ import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 public class LockoutTaskCard extends TaskCard
 {
     public int teamCount;
@@ -17,12 +22,25 @@ public class LockoutTaskCard extends TaskCard
     private final BingoSession session;
     private final BingoTeamContainer teams;
 
+    // Team that claimed the task in each slot, or null if the task has not been claimed yet.
+    private BingoTeam[] slotOwners;
+    private int unclaimedCount;
+    private int leadingCount;
+    // Teams that are still in the game, by the amount of tasks they claimed.
+    private final List<Set<BingoTeam>> remainingTeamsByClaimCount;
+    private int lowestClaimCount;
+
     public LockoutTaskCard(@NotNull CardMenu menu, CardSize size, BingoSession session, BingoTeamContainer teams) {
         super(menu, size);
         this.currentMaxTasks = size.fullCardSize;
         this.teamCount = teams.teamCount();
         this.session = session;
         this.teams = teams;
+        this.slotOwners = new BingoTeam[size.fullCardSize];
+        this.unclaimedCount = size.fullCardSize;
+        this.leadingCount = 0;
+        this.remainingTeamsByClaimCount = new ArrayList<>();
+        this.lowestClaimCount = 0;
 
         menu.setInfo(BingoMessage.INFO_LOCKOUT_NAME.asPhrase(),
                 BingoMessage.INFO_LOCKOUT_DESC.asMultiline());
@@ -30,17 +48,6 @@ public class LockoutTaskCard extends TaskCard
 
     @Override
     public boolean hasTeamWon(BingoTeam team) {
-        // get the completeCount of the team with the most items.
-        BingoTeam leadingTeam = teams.getLeadingTeam();
-        BingoTeam losingTeam = teams.getLosingTeam();
-
-        int itemsLeft = size.fullCardSize - teams.getTotalCompleteCount();
-
-        // if amount on items cannot get up to amount of items of the team with the most items, this team cannot win anymore.
-        if (itemsLeft + losingTeam.getCompleteCount() < leadingTeam.getCompleteCount()) {
-            dropTeam(losingTeam, session);
-        }
-
         if (teamCount < 2) {
             return true;
         }
@@ -65,6 +72,50 @@ public class LockoutTaskCard extends TaskCard
         return false;
     }
 
+    public int getUnclaimedCount() {
+        return unclaimedCount;
+    }
+
+    public @Nullable BingoTeam getSlotOwner(int slot) {
+        return slotOwners[slot];
+    }
+
+    @Override
+    protected void indexTasks(List<GameTask> tasks) {
+        slotOwners = new BingoTeam[tasks.size()];
+        unclaimedCount = tasks.size();
+        currentMaxTasks = tasks.size();
+        leadingCount = 0;
+        lowestClaimCount = 0;
+        remainingTeamsByClaimCount.clear();
+        for (int i = 0; i <= tasks.size(); i++) {
+            remainingTeamsByClaimCount.add(new HashSet<>());
+        }
+        remainingTeamsByClaimCount.getFirst().addAll(teams.getTeams());
+        teamCount = teams.teamCount();
+
+        super.indexTasks(tasks);
+    }
+
+    @Override
+    protected void markSlotCompleted(int slot, BingoTeam team) {
+        if (slotOwners[slot] != null) {
+            return;
+        }
+
+        int previousCount = getCompleteCount(team);
+        super.markSlotCompleted(slot, team);
+        slotOwners[slot] = team;
+        unclaimedCount--;
+
+        int claimCount = getCompleteCount(team);
+        leadingCount = Math.max(leadingCount, claimCount);
+        if (remainingTeamsByClaimCount.get(previousCount).remove(team)) {
+            remainingTeamsByClaimCount.get(claimCount).add(team);
+        }
+
+        dropUnwinnableTeams();
+    }
 
     public void dropTeam(BingoTeam team, BingoSession session) {
         if (team.outOfTheGame) {
@@ -72,12 +123,31 @@ public class LockoutTaskCard extends TaskCard
         }
         BingoMessage.DROPPED.sendToAudience(session, team.getColoredName());
         team.outOfTheGame = true;
+        remainingTeamsByClaimCount.get(getCompleteCount(team)).remove(team);
         for (GameTask task : getTasks()) {
             if (task.isCompletedByTeam(team)) {
                 task.setVoided(true);
-                currentMaxTasks--;
             }
         }
+        currentMaxTasks -= getCompleteCount(team);
         teamCount--;
     }
+
+    /**
+     * Drop teams that can no longer catch up to the leading team, even if they claim all unclaimed tasks.
+     * Only the teams with the lowest claim count have to be checked, since they are the first to become unable to win.
+     */
+    private void dropUnwinnableTeams() {
+        while (teamCount > 1) {
+            while (lowestClaimCount < leadingCount && remainingTeamsByClaimCount.get(lowestClaimCount).isEmpty()) {
+                lowestClaimCount++;
+            }
+
+            Set<BingoTeam> losingTeams = remainingTeamsByClaimCount.get(lowestClaimCount);
+            if (losingTeams.isEmpty() || lowestClaimCount + unclaimedCount >= leadingCount) {
+                return;
+            }
+            dropTeam(losingTeams.iterator().next(), session);
+        }
+    }
 }
@@ -13,19 +13,37 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 
 public abstract class TaskCard
 {
     public final CardSize size;
     private final List<GameTask> tasks;
+    // Incremented every time the tasks on this card change, so users of the tasks can tell when they have to be updated.
+    private int tasksVersion;
+
+    // Completion state kept up to date when tasks get completed, so that scores don't have to be counted from all tasks.
+    private final Map<GameTask, Integer> slotOfTask;
+    private final Map<BingoTeam, BitSet> completedSlots;
+    // Tasks completed on this card, including tasks that have been replaced since.
+    private final Map<BingoTeam, Integer> teamCompleteCounts;
+    private final Map<UUID, Integer> participantCompleteCounts;
 
     protected final CardMenu menu;
 
     public TaskCard(CardMenu menu, CardSize size) {
         this.size = size;
         this.tasks = new ArrayList<>();
+        this.slotOfTask = new IdentityHashMap<>();
+        this.completedSlots = new HashMap<>();
+        this.teamCompleteCounts = new HashMap<>();
+        this.participantCompleteCounts = new HashMap<>();
         this.menu = menu;
         menu.setInfo(BingoMessage.INFO_REGULAR_NAME.asPhrase(),
                 BingoMessage.INFO_REGULAR_DESC.asMultiline());
@@ -39,11 +57,19 @@ public abstract class TaskCard
      * @param settings settings to use for card generation.
      */
     public void generateCard(TaskGenerator.GeneratorSettings settings) {
-        setTasks(TaskGenerator.generateCardTasks(settings));
+        generateCard(settings, TaskGenerator.generateCardTasks(settings));
+    }
+
+    /**
+     * @param settings settings that were used to generate the tasks.
+     * @param tasks tasks generated ahead of time to put on this card.
+     */
+    public void generateCard(TaskGenerator.GeneratorSettings settings, List<GameTask> tasks) {
+        setTasks(tasks);
     }
 
     public void showInventory(Player player) {
-        menu.updateTasks(getTasks());
+        // The menu is kept up to date as tasks change, so it can be opened as is.
         menu.open(player);
     }
 
@@ -51,9 +77,19 @@ public abstract class TaskCard
         return tasks;
     }
 
+    public int getTasksVersion() {
+        return tasksVersion;
+    }
+
+    protected void incrementTasksVersion() {
+        tasksVersion++;
+    }
+
     public void setTasks(List<GameTask> tasks) {
         this.tasks.clear();
         this.tasks.addAll(tasks);
+        incrementTasksVersion();
+        indexTasks(tasks);
         this.menu.updateTasks(tasks);
     }
 
@@ -62,19 +98,72 @@ public abstract class TaskCard
      * @return The amount of completed items for the given team.
      */
     public int getCompleteCount(@NotNull BingoTeam team) {
-        int count = 0;
-        for (var task : getTasks()) {
-            if (task.isCompletedByTeam(team))
-                count++;
+        return teamCompleteCounts.getOrDefault(team, 0);
+    }
+
+    public int getCompleteCount(@NotNull BingoParticipant participant) {
+        return participantCompleteCounts.getOrDefault(participant.getId(), 0);
+    }
+
+    /**
+     * Should be called after the task has been completed by the player.
+     */
+    public void handleTaskCompleted(BingoParticipant player, GameTask task, long timeSeconds) {
+        Integer slot = slotOfTask.get(task);
+        if (slot == null) {
+            return;
         }
+        task.getCompletedByTeam().ifPresent(team -> markSlotCompleted(slot, team));
+        task.getCompletedByPlayer().ifPresent(participant -> participantCompleteCounts.merge(participant.getId(), 1, Integer::sum));
+        menu.updateTask(slot);
+    }
 
-        return count;
+    /**
+     * @return the slot the task is in on this card, or -1 if the task is not on this card.
+     */
+    protected int getSlotOfTask(GameTask task) {
+        return slotOfTask.getOrDefault(task, -1);
     }
 
-    public int getCompleteCount(@NotNull BingoParticipant participant) {
-        return (int) getTasks().stream()
-                .filter(t -> t.getCompletedByPlayer().isPresent() && t.getCompletedByPlayer().get().getId().equals(participant.getId())).count();
+    /**
+     * @return true if the task in the given slot has been completed by the team.
+     */
+    public boolean isSlotCompletedByTeam(int slot, @NotNull BingoTeam team) {
+        BitSet slots = completedSlots.get(team);
+        return slots != null && slots.get(slot);
+    }
+
+    /**
+     * Reset the completion state of this card to the state of the given tasks, with each task's slot being its index in the list.
+     */
+    protected void indexTasks(List<GameTask> tasks) {
+        slotOfTask.clear();
+        completedSlots.clear();
+        teamCompleteCounts.clear();
+        participantCompleteCounts.clear();
+        for (int i = 0; i < tasks.size(); i++) {
+            GameTask task = tasks.get(i);
+            int slot = i;
+            slotOfTask.put(task, slot);
+            task.getCompletedByTeam().ifPresent(team -> markSlotCompleted(slot, team));
+            task.getCompletedByPlayer().ifPresent(participant -> participantCompleteCounts.merge(participant.getId(), 1, Integer::sum));
+        }
+    }
+
+    /**
+     * Put a new task in the given slot, the task it replaces will still count towards the complete count of the team that completed it.
+     * @param oldTask task that was in the slot before.
+     */
+    protected void replaceTaskInSlot(int slot, GameTask oldTask, GameTask newTask) {
+        slotOfTask.remove(oldTask);
+        slotOfTask.put(newTask, slot);
+        for (BitSet slots : completedSlots.values()) {
+            slots.clear(slot);
+        }
     }
 
-    public void handleTaskCompleted(BingoParticipant player, GameTask task, long timeSeconds) {}
+    protected void markSlotCompleted(int slot, BingoTeam team) {
+        completedSlots.computeIfAbsent(team, t -> new BitSet(size.fullCardSize)).set(slot);
+        teamCompleteCounts.merge(team, 1, Integer::sum);
+    }
 }
@@ -9,33 +9,52 @@ import io.github.steaf23.playerdisplay.util.TextColorGradient;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextColor;
 
+import java.util.function.IntSupplier;
+
 public class ExpiringHotswapTask implements HotswapTaskHolder
 {
     public GameTask task;
     public int expirationTimeSeconds;
     public int recoveryTime;
-    public int currentTime;
     public boolean recovering;
 
+    private final IntSupplier timeLeft;
+
     private final boolean showExpirationAsDurability;
 
+    // Item shows the time left, so it only has to be rebuilt when the time or recovering state changes.
+    private ItemTemplate cachedItem;
+    private int cachedItemTime;
+    private boolean cachedItemRecovering;
+
     private static final TextColorGradient EXPIRATION_GRADIENT = new TextColorGradient()
             .addColor(TextColor.fromHexString("#ffd200"), 0.0f)
             .addColor(TextColor.fromHexString("#e85e21"), 0.5f)
             .addColor(TextColor.fromHexString("#750e0e"), 0.8f)
             .addColor(NamedTextColor.DARK_GRAY, 1.0f);
 
-    public ExpiringHotswapTask(GameTask task, int expirationTimeMinutes, int recoverTime, boolean showExpirationAsDurability) {
+    public ExpiringHotswapTask(GameTask task, int expirationTimeMinutes, int recoverTime, boolean showExpirationAsDurability, IntSupplier timeLeft) {
         this.task = task;
         this.expirationTimeSeconds = expirationTimeMinutes;
         this.recoveryTime = recoverTime;
-        this.currentTime = expirationTimeMinutes;
+        this.timeLeft = timeLeft;
         this.recovering = false;
         this.showExpirationAsDurability = showExpirationAsDurability;
+        this.cachedItem = null;
     }
 
     @Override
     public ItemTemplate convertToItem() {
+        int currentTime = getCurrentTime();
+        if (cachedItem == null || cachedItemTime != currentTime || cachedItemRecovering != isRecovering()) {
+            cachedItem = createItem(currentTime).cacheBuiltItem();
+            cachedItemTime = currentTime;
+            cachedItemRecovering = isRecovering();
+        }
+        return cachedItem.copy();
+    }
+
+    private ItemTemplate createItem(int currentTime) {
         ItemTemplate item = task.toItem();
         if (isRecovering()) {
             item.addDescription("time", 1, BingoMessage.HOTSWAP_RECOVER.asPhrase(GameTimer.getTimeAsComponent(currentTime)).color(TextColor.fromHexString("#5cb1ff")));
@@ -53,17 +72,11 @@ public class ExpiringHotswapTask implements HotswapTaskHolder
     @Override
     public void startRecovering() {
         recovering = true;
-        currentTime = recoveryTime;
-    }
-
-    @Override
-    public void updateTaskTime() {
-        currentTime -= 1;
     }
 
     @Override
     public int getCurrentTime() {
-        return currentTime;
+        return timeLeft.getAsInt();
     }
 
     @Override
@@ -77,6 +90,6 @@ public class ExpiringHotswapTask implements HotswapTaskHolder
     }
 
     private TextColor getColorForExpirationTime() {
-        return EXPIRATION_GRADIENT.sample(ExtraMath.map(currentTime, 0.0f, expirationTimeSeconds, 1.0f, 0.0f));
+        return EXPIRATION_GRADIENT.sample(ExtraMath.map(getCurrentTime(), 0.0f, expirationTimeSeconds, 1.0f, 0.0f));
     }
 }
@@ -0,0 +1,78 @@
+package io.github.steaf23.bingoreloaded.cards.hotswap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps track of when the task in each slot of a hotswap card expires or finishes recovering, ordered by deadline.
+ * Only slots that are due get visited when time advances, instead of counting down the time of every slot each second.
+ * Time is counted in seconds.
+ */
+public class HotswapExpirationQueue
+{
+    private record Deadline(long time, int slot, long id)
+    {
+    }
+
+    private final PriorityQueue<Deadline> deadlines;
+    // Current deadline of each slot, other deadlines of a slot that are still in the queue have been rescheduled or cancelled.
+    private final Map<Integer, Deadline> currentDeadlines;
+    private long currentTime;
+    private long nextId;
+
+    public HotswapExpirationQueue() {
+        this.deadlines = new PriorityQueue<>((a, b) -> a.time() != b.time() ? Long.compare(a.time(), b.time()) : Integer.compare(a.slot(), b.slot()));
+        this.currentDeadlines = new HashMap<>();
+        this.currentTime = 0;
+        this.nextId = 0;
+    }
+
+    /**
+     * Schedule the slot to be due after the given amount of seconds, replacing any deadline the slot already had.
+     */
+    public void schedule(int slot, int seconds) {
+        Deadline deadline = new Deadline(currentTime + seconds, slot, nextId++);
+        currentDeadlines.put(slot, deadline);
+        deadlines.add(deadline);
+    }
+
+    public void cancel(int slot) {
+        // The deadline stays in the queue, but will be skipped since it is no longer the slot's current deadline.
+        currentDeadlines.remove(slot);
+    }
+
+    public void clear() {
+        deadlines.clear();
+        currentDeadlines.clear();
+    }
+
+    /**
+     * @return seconds left until the slot is due, or 0 if the slot has no deadline.
+     */
+    public int getTimeLeft(int slot) {
+        Deadline deadline = currentDeadlines.get(slot);
+        return deadline == null ? 0 : (int) Math.max(0, deadline.time() - currentTime);
+    }
+
+    /**
+     * Advance time by one second.
+     * @return All slots that became due, in order of their deadline. These slots no longer have a deadline.
+     */
+    public List<Integer> advance() {
+        currentTime++;
+        List<Integer> dueSlots = new ArrayList<>();
+        while (!deadlines.isEmpty() && deadlines.peek().time() <= currentTime) {
+            Deadline deadline = deadlines.poll();
+            if (currentDeadlines.get(deadline.slot()) != deadline) {
+                continue;
+            }
+
+            currentDeadlines.remove(deadline.slot());
+            dueSlots.add(deadline.slot());
+        }
+        return dueSlots;
+    }
+}
@@ -10,7 +10,9 @@ public interface HotswapTaskHolder
     boolean isRecovering();
     void startRecovering();
 
-    void updateTaskTime();
+    /**
+     * @return time in seconds until the task expires or finishes recovering.
+     */
     int getCurrentTime();
 
     ItemTemplate convertToItem();
@@ -0,0 +1,135 @@
+package io.github.steaf23.bingoreloaded.cards.hotswap;
+
+import io.github.steaf23.bingoreloaded.tasks.data.ItemTask;
+import io.github.steaf23.bingoreloaded.tasks.data.StatisticTask;
+import io.github.steaf23.bingoreloaded.tasks.data.TaskData;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Pool of tasks to draw replacement tasks for a hotswap card from.
+ * Every task gets drawn once before any task can be drawn again, tasks that are on the card when the pool gets refilled are skipped.
+ * Drawing a task and excluding a task that was put on the card both take constant time.
+ */
+public class HotswapTaskPool
+{
+    private final Random random;
+    private final List<TaskData> tasks;
+    private final Map<Object, Integer> indexOfKey;
+    // Indices into tasks, the first availableCount entries can still be drawn this round.
+    private int[] order;
+    // Position of each task in order.
+    private int[] positionInOrder;
+    private int availableCount;
+    private final Set<Object> keysOnCard;
+
+    public HotswapTaskPool(Random random) {
+        this.random = random;
+        this.tasks = new ArrayList<>();
+        this.indexOfKey = new HashMap<>();
+        this.order = new int[0];
+        this.positionInOrder = new int[0];
+        this.availableCount = 0;
+        this.keysOnCard = new HashSet<>();
+    }
+
+    /**
+     * Replace the contents of the pool, tasks that are equal to a task already in the pool are only added once.
+     */
+    public void fill(Collection<TaskData> newTasks) {
+        tasks.clear();
+        indexOfKey.clear();
+        for (TaskData data : newTasks) {
+            if (indexOfKey.putIfAbsent(getKey(data), tasks.size()) == null) {
+                tasks.add(data);
+            }
+        }
+
+        order = new int[tasks.size()];
+        positionInOrder = new int[tasks.size()];
+        for (int i = 0; i < tasks.size(); i++) {
+            order[i] = i;
+            positionInOrder[i] = i;
+        }
+        // The round starts on the next draw, so the tasks on the card at that time can be skipped.
+        availableCount = 0;
+    }
+
+    /**
+     * Mark task as being on the card, so it will not be drawn until it has been removed from the card and the pool gets refilled.
+     */
+    public void addToCard(TaskData data) {
+        Object key = getKey(data);
+        keysOnCard.add(key);
+
+        Integer index = indexOfKey.get(key);
+        if (index != null && positionInOrder[index] < availableCount) {
+            swap(positionInOrder[index], availableCount - 1);
+            availableCount--;
+        }
+    }
+
+    public void removeFromCard(TaskData data) {
+        keysOnCard.remove(getKey(data));
+    }
+
+    public void clearCard() {
+        keysOnCard.clear();
+    }
+
+    /**
+     * @return a random task that has not been drawn this round and is not on the card,
+     * or null if all tasks of the pool are currently on the card.
+     */
+    public @Nullable TaskData draw() {
+        if (availableCount == 0) {
+            refill();
+        }
+        if (availableCount == 0) {
+            return null;
+        }
+
+        swap(random.nextInt(availableCount), availableCount - 1);
+        availableCount--;
+        return tasks.get(order[availableCount]);
+    }
+
+    private void refill() {
+        availableCount = tasks.size();
+        for (Object key : keysOnCard) {
+            Integer index = indexOfKey.get(key);
+            if (index != null && positionInOrder[index] < availableCount) {
+                swap(positionInOrder[index], availableCount - 1);
+                availableCount--;
+            }
+        }
+    }
+
+    private void swap(int positionA, int positionB) {
+        int a = order[positionA];
+        int b = order[positionB];
+        order[positionA] = b;
+        order[positionB] = a;
+        positionInOrder[a] = positionB;
+        positionInOrder[b] = positionA;
+    }
+
+    /**
+     * @return object that is equal for all tasks that are considered equal by TaskData.isTaskEqual.
+     */
+    private static Object getKey(TaskData data) {
+        return switch (data) {
+            case ItemTask itemTask -> itemTask.material();
+            case StatisticTask statisticTask -> statisticTask.statistic();
+            default -> data;
+        };
+    }
+}
@@ -6,15 +6,22 @@ import io.github.steaf23.bingoreloaded.util.timer.GameTimer;
 import io.github.steaf23.playerdisplay.inventory.item.ItemTemplate;
 import net.kyori.adventure.text.format.TextColor;
 
+import java.util.function.IntSupplier;
+
 public class SimpleHotswapTask implements HotswapTaskHolder
 {
-    int currentTime;
     private final GameTask task;
+    private final IntSupplier timeLeft;
     boolean recovering = false;
 
-    public SimpleHotswapTask(GameTask task, int recoveryTime) {
+    // Item shows the recovery time left, so it only has to be rebuilt when the time or recovering state changes.
+    private ItemTemplate cachedItem = null;
+    private int cachedItemTime;
+    private boolean cachedItemRecovering;
+
+    public SimpleHotswapTask(GameTask task, IntSupplier timeLeft) {
         this.task = task;
-        this.currentTime = recoveryTime;
+        this.timeLeft = timeLeft;
     }
 
     @Override
@@ -32,23 +39,26 @@ public class SimpleHotswapTask implements HotswapTaskHolder
         recovering = true;
     }
 
-    @Override
-    public void updateTaskTime() {
-        if (recovering) {
-            currentTime -= 1;
-        }
-    }
-
     @Override
     public int getCurrentTime() {
-        return currentTime;
+        return timeLeft.getAsInt();
     }
 
     @Override
     public ItemTemplate convertToItem() {
+        int currentTime = getCurrentTime();
+        if (cachedItem == null || cachedItemTime != currentTime || cachedItemRecovering != isRecovering()) {
+            cachedItem = createItem().cacheBuiltItem();
+            cachedItemTime = currentTime;
+            cachedItemRecovering = isRecovering();
+        }
+        return cachedItem.copy();
+    }
+
+    private ItemTemplate createItem() {
         ItemTemplate item = task.toItem();
         if (isRecovering()) {
-            item.addDescription("time", 1, BingoMessage.HOTSWAP_RECOVER.asPhrase(GameTimer.getTimeAsComponent(currentTime)).color(TextColor.fromHexString("#5cb1ff")));
+            item.addDescription("time", 1, BingoMessage.HOTSWAP_RECOVER.asPhrase(GameTimer.getTimeAsComponent(getCurrentTime())).color(TextColor.fromHexString("#5cb1ff")));
         }
         return item;
     }
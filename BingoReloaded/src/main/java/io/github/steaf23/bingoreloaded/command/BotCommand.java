@@ -134,7 +134,11 @@ public class BotCommand implements TabExecutor
         }
 
         GameTask task = card.get().getTasks().get(taskIndex);
-        task.complete(player, ((BingoGame) player.getSession().phase()).getGameTime());
+        long gameTime = ((BingoGame) player.getSession().phase()).getGameTime();
+        if (!task.complete(player, gameTime))
+            return;
+
+        card.get().handleTaskCompleted(player, task, gameTime);
         var slotEvent = new BingoTaskProgressCompletedEvent(player.getSession(), task);
         Bukkit.getPluginManager().callEvent(slotEvent);
     }
@@ -3,6 +3,7 @@ package io.github.steaf23.bingoreloaded.data;
 import io.github.steaf23.bingoreloaded.BingoReloaded;
 import io.github.steaf23.bingoreloaded.data.core.DataAccessor;
 import io.github.steaf23.bingoreloaded.data.core.DataStorage;
+import io.github.steaf23.bingoreloaded.tasks.TaskGenerator;
 import io.github.steaf23.bingoreloaded.tasks.data.TaskData;
 import io.github.steaf23.bingoreloaded.tasks.data.ItemTask;
 import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
@@ -39,6 +40,7 @@ public class BingoCardData
 
         data.erase(cardName);
         data.saveChanges();
+        TaskGenerator.invalidateCompiledCards();
         return true;
     }
 
@@ -50,6 +52,7 @@ public class BingoCardData
         DataStorage card = data.getStorage(cardName);
         data.setStorage(cardName + "_copy", card);
         data.saveChanges();
+        TaskGenerator.invalidateCompiledCards();
         return true;
     }
 
@@ -66,6 +69,7 @@ public class BingoCardData
         data.setStorage(newName, card);
         data.erase(cardName);
         data.saveChanges();
+        TaskGenerator.invalidateCompiledCards();
         return true;
     }
 
@@ -89,11 +93,13 @@ public class BingoCardData
         data.setByte(cardName + "." + listName + ".max", (byte) Math.min(max, MAX_ITEMS));
         data.setByte(cardName + "." + listName + ".min", (byte) Math.max(min, MIN_ITEMS));
         data.saveChanges();
+        TaskGenerator.invalidateCompiledCards();
     }
 
     public void removeList(String cardName, String listName)
     {
         data.erase(cardName + "." + listName);
+        TaskGenerator.invalidateCompiledCards();
     }
 
     public ItemTask getRandomItemTask(String cardName)
@@ -0,0 +1,24 @@
+package io.github.steaf23.bingoreloaded.data;
+
+import io.github.steaf23.bingoreloaded.BingoReloaded;
+import io.github.steaf23.bingoreloaded.data.core.DataAccessor;
+import io.github.steaf23.bingoreloaded.data.core.tag.TagDataType;
+
+import java.util.List;
+
+/**
+ * Ids of the maps that have been created to render bingo cards on, so they can be reused after restarting the server.
+ */
+public class CardMapData
+{
+    private final DataAccessor data = BingoReloaded.getDataAccessor("data/card_maps");
+
+    public List<Integer> getMapIds() {
+        return data.getList("map_ids", TagDataType.INT);
+    }
+
+    public void setMapIds(List<Integer> mapIds) {
+        data.setList("map_ids", TagDataType.INT, mapIds);
+        data.saveChanges();
+    }
+}
@@ -3,6 +3,7 @@ package io.github.steaf23.bingoreloaded.data;
 import io.github.steaf23.bingoreloaded.BingoReloaded;
 import io.github.steaf23.bingoreloaded.data.core.DataAccessor;
 import io.github.steaf23.bingoreloaded.data.core.DataStorage;
+import io.github.steaf23.bingoreloaded.tasks.TaskGenerator;
 import io.github.steaf23.bingoreloaded.tasks.data.TaskData;
 import io.github.steaf23.bingoreloaded.tasks.data.AdvancementTask;
 import io.github.steaf23.bingoreloaded.tasks.data.StatisticTask;
@@ -84,6 +85,7 @@ public class TaskListData
         data.setSerializableList(listName + ".tasks", TaskData.class, new ArrayList<>(savedTasks));
         data.setInt(listName + ".size", savedTasks.size());
         data.saveChanges();
+        TaskGenerator.invalidateCompiledCards();
     }
 
     public boolean removeList(String listName)
@@ -98,6 +100,7 @@ public class TaskListData
 
         data.erase(listName);
         data.saveChanges();
+        TaskGenerator.invalidateCompiledCards();
         return true;
     }
 
@@ -119,6 +122,7 @@ public class TaskListData
 
         data.setStorage(newName, list);
         data.saveChanges();
+        TaskGenerator.invalidateCompiledCards();
         return true;
     }
 
@@ -135,6 +139,7 @@ public class TaskListData
         data.setStorage(newName, list);
         data.erase(oldName);
         data.saveChanges();
+        TaskGenerator.invalidateCompiledCards();
         return true;
     }
 
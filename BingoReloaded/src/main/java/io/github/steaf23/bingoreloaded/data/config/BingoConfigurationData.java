@@ -74,11 +74,13 @@ public class BingoConfigurationData
         setOptionValueForce(BingoOptions.GO_UP_WAND_PLATFORM_LIFETIME, name -> config.getInt(name, 10));
         setOptionValueForce(BingoOptions.GRACE_PERIOD, name -> config.getInt(name, 30));
         setOptionValueForce(BingoOptions.REMOVE_TASK_ITEMS, name -> config.getBoolean(name, true));
+        setOptionValueForce(BingoOptions.INVENTORY_RESCAN_INTERVAL, name -> config.getInt(name, 10));
         setOptionValueForce(BingoOptions.ENABLE_TEAM_CHAT, name -> config.getBoolean(name, true));
         setOptionValueForce(BingoOptions.KEEP_SCOREBOARD_VISIBLE, name -> config.getBoolean(name, true));
         setOptionValueForce(BingoOptions.SHOW_PLAYER_IN_SCOREBOARD, name -> config.getBoolean(name, true));
         setOptionValueForce(BingoOptions.DISABLE_ADVANCEMENTS, name -> config.getBoolean(name, false));
         setOptionValueForce(BingoOptions.DISABLE_STATISTICS, name -> config.getBoolean(name, false));
+        setOptionValueForce(BingoOptions.EXTRA_REVOKED_ADVANCEMENTS, name -> new ConfigurationOption.StringList(config.getList(name, TagDataType.STRING)));
         setOptionValueForce(BingoOptions.END_GAME_WITHOUT_TEAMS, name -> config.getBoolean(name, true));
         setOptionValueForce(BingoOptions.HOTSWAP_CONFIG, name -> new HotswapConfig(
                 config.getInt(name + "minimumExpirationTime", 3),
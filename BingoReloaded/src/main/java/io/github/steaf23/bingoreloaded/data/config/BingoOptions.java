@@ -74,6 +74,8 @@ public class BingoOptions
     public static final ConfigurationOption<Integer> GO_UP_WAND_PLATFORM_LIFETIME = new IntegerOption("GoUpWand.platformLifetime").withMin(0);
     public static final ConfigurationOption<Integer> GRACE_PERIOD = new IntegerOption("gracePeriod").withMin(0);
     public static final ConfigurationOption<Boolean> REMOVE_TASK_ITEMS = new BooleanOption("removeTaskItems");
+    public static final ConfigurationOption<Integer> INVENTORY_RESCAN_INTERVAL = new IntegerOption("inventoryRescanInterval").withMin(1)
+            .withEditUpdate(ConfigurationOption.EditUpdateTime.AFTER_GAME);
     public static final ConfigurationOption<Boolean> ENABLE_TEAM_CHAT = new BooleanOption("enableTeamChat")
             .withEditUpdate(ConfigurationOption.EditUpdateTime.AFTER_SERVER_RESTART);
     public static final ConfigurationOption<Boolean> KEEP_SCOREBOARD_VISIBLE = new BooleanOption("keepScoreboardVisible")
@@ -84,6 +86,8 @@ public class BingoOptions
             .withEditUpdate(ConfigurationOption.EditUpdateTime.AFTER_SERVER_RESTART);
     public static final ConfigurationOption<Boolean> DISABLE_STATISTICS = new BooleanOption("disableStatistics")
             .withEditUpdate(ConfigurationOption.EditUpdateTime.AFTER_SERVER_RESTART);
+    public static final ConfigurationOption<ConfigurationOption.StringList> EXTRA_REVOKED_ADVANCEMENTS = new NonSerializableOption<ConfigurationOption.StringList>("extraRevokedAdvancements")
+            .withEditUpdate(ConfigurationOption.EditUpdateTime.AFTER_GAME);
     public static final ConfigurationOption<Boolean> END_GAME_WITHOUT_TEAMS = new BooleanOption("endGameWithoutTeams");
     public static final ConfigurationOption<BingoConfigurationData.HotswapConfig> HOTSWAP_CONFIG = new NonSerializableOption<>("hotswapMode");
     public static final ConfigurationOption<Boolean> ALLOW_VIEWING_ALL_CARDS = new BooleanOption("allowViewingAllCards")
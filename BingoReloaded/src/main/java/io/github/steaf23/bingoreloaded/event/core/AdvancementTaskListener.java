@@ -0,0 +1,32 @@
+package io.github.steaf23.bingoreloaded.event.core;
+
+import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
+import io.github.steaf23.bingoreloaded.gameloop.GameManager;
+import io.github.steaf23.bingoreloaded.gameloop.phase.BingoGame;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerAdvancementDoneEvent;
+
+/**
+ * Only registered while any game has advancement tasks to complete.
+ */
+public class AdvancementTaskListener implements Listener
+{
+    private final GameManager gameManager;
+
+    public AdvancementTaskListener(GameManager gameManager)
+    {
+        this.gameManager = gameManager;
+    }
+
+    @EventHandler
+    public void handlePlayerAdvancementCompleted(final PlayerAdvancementDoneEvent event)
+    {
+        BingoSession session = gameManager.getSessionFromWorld(event.getPlayer().getWorld());
+        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
+        if (game != null)
+        {
+            game.getProgressTracker().handlePlayerAdvancementDone(event);
+        }
+    }
+}
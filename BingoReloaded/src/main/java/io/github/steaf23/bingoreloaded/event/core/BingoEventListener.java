@@ -4,7 +4,6 @@ import io.github.steaf23.bingoreloaded.event.BingoDeathmatchTaskCompletedEvent;
 import io.github.steaf23.bingoreloaded.event.BingoEndedEvent;
 import io.github.steaf23.bingoreloaded.event.BingoPlaySoundEvent;
 import io.github.steaf23.bingoreloaded.event.BingoSettingsUpdatedEvent;
-import io.github.steaf23.bingoreloaded.event.BingoStatisticCompletedEvent;
 import io.github.steaf23.bingoreloaded.event.BingoTaskProgressCompletedEvent;
 import io.github.steaf23.bingoreloaded.event.CountdownTimerFinishedEvent;
 import io.github.steaf23.bingoreloaded.event.ParticipantJoinedTeamEvent;
@@ -23,20 +22,17 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
-import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
-import org.bukkit.event.inventory.InventoryClickEvent;
-import org.bukkit.event.player.PlayerAdvancementDoneEvent;
 import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerItemDamageEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerPortalEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
-import org.bukkit.event.player.PlayerStatisticIncrementEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.inventory.EquipmentSlot;
 import org.jetbrains.annotations.NotNull;
 
@@ -44,15 +40,11 @@ import javax.annotation.Nullable;
 
 public class BingoEventListener implements Listener
 {
-    private final boolean disableAdvancements;
-    private final boolean disableStatistics;
     private final GameManager gameManager;
 
-    public BingoEventListener(GameManager gameManager, boolean disableAdvancements, boolean disableStatistics)
+    public BingoEventListener(GameManager gameManager)
     {
         this.gameManager = gameManager;
-        this.disableAdvancements = disableAdvancements;
-        this.disableStatistics = disableStatistics;
     }
 
     @Nullable
@@ -98,12 +90,6 @@ public class BingoEventListener implements Listener
             return;
 
         session.handlePlayerDropItem(event);
-
-        BingoGame game = session.isRunning() ? (BingoGame)session.phase() : null;
-        if (game != null && game.hasStarted())
-        {
-            game.getProgressTracker().handlePlayerDroppedItem(event);
-        }
     }
 
     @EventHandler
@@ -174,42 +160,6 @@ public class BingoEventListener implements Listener
         }
     }
 
-    @EventHandler
-    public void handlePlayerAdvancementCompleted(final PlayerAdvancementDoneEvent event)
-    {
-        if (disableAdvancements)
-            return;
-
-        BingoSession session = getSession(event.getPlayer().getWorld());
-        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
-        if (game != null)
-        {
-            game.getProgressTracker().handlePlayerAdvancementDone(event);
-        }
-    }
-
-    @EventHandler
-    public void handlePlayerPickupItem(final EntityPickupItemEvent event)
-    {
-        BingoSession session = getSession(event.getEntity().getWorld());
-        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
-        if (game != null && game.hasStarted())
-        {
-            game.getProgressTracker().handlePlayerPickupItem(event);
-        }
-    }
-
-    @EventHandler
-    public void handleInventoryClicked(final InventoryClickEvent event)
-    {
-        BingoSession session = getSession(event.getWhoClicked().getWorld());
-        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
-        if (game != null && game.hasStarted())
-        {
-            game.getProgressTracker().handleInventoryClicked(event);
-        }
-    }
-
     @EventHandler
     public void handlePlayerJoinsServer(final PlayerJoinEvent event)
     {
@@ -239,47 +189,6 @@ public class BingoEventListener implements Listener
         }
     }
 
-    @EventHandler
-    public void handleStatisticIncrement(final PlayerStatisticIncrementEvent event)
-    {
-        if (disableStatistics)
-            return;
-
-        BingoSession session = getSession(event.getPlayer().getWorld());
-        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
-        if (game != null)
-        {
-            game.getProgressTracker().handlePlayerStatIncrement(event);
-        }
-    }
-
-    @EventHandler
-    public void handleBingoStatisticCompleted(final BingoStatisticCompletedEvent event)
-    {
-        if (disableStatistics)
-            return;
-
-        BingoSession session = event.getSession();
-        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
-        if (game != null)
-        {
-            game.getProgressTracker().handleBingoStatisticCompleted(event);
-        }
-    }
-
-    @EventHandler
-    public void handlePlayerMove(final PlayerMoveEvent event)
-    {
-        BingoSession session = getSession(event.getPlayer().getWorld());
-        if (session == null)
-            return;
-
-        if (session.isRunning())
-        {
-            ((BingoGame)session.phase()).handlePlayerMove(event);
-        }
-    }
-
     @EventHandler
     public void handlePlayerPortal(final PlayerPortalEvent event) {
         BingoSession session = getSession(event.getFrom().getWorld());
@@ -327,14 +236,27 @@ public class BingoEventListener implements Listener
 
     @EventHandler
     public void handleParticipantJoinedTeam(final ParticipantJoinedTeamEvent event) {
+        gameManager.handleParticipantJoinedTeam(event);
         event.getSession().handleParticipantJoinedTeam(event);
     }
 
     @EventHandler
     public void handleParticipantLeftTeam(final ParticipantLeftTeamEvent event) {
+        gameManager.handleParticipantLeftTeam(event);
         event.getSession().handleParticipantLeftTeam(event);
     }
 
+    @EventHandler
+    public void handleWorldLoad(final WorldLoadEvent event) {
+        gameManager.handleWorldLoad(event);
+    }
+
+    // Unloading can be cancelled by other plugins, in which case the world still belongs to its session.
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void handleWorldUnload(final WorldUnloadEvent event) {
+        gameManager.handleWorldUnload(event);
+    }
+
     @EventHandler
     public void handleBingoPlaySoundEvent(final BingoPlaySoundEvent event) {
         event.getSession().handlePlaySoundEvent(event);
@@ -0,0 +1,89 @@
+package io.github.steaf23.bingoreloaded.event.core;
+
+import io.github.steaf23.bingoreloaded.gameloop.GameManager;
+import io.github.steaf23.playerdisplay.util.DebugLogger;
+import org.bukkit.Bukkit;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Registers listeners for frequently fired events only while at least one game needs them.
+ * Games subscribe to the topics they need (depending on the tasks on their cards for example)
+ * and the listener of a topic is registered for as long as it has any subscribers.
+ */
+public class EventSubscriptions
+{
+    public enum Topic
+    {
+        ITEM_TASKS,
+        ADVANCEMENT_TASKS,
+        STATISTIC_TASKS,
+        PLAYER_MOVEMENT,
+    }
+
+    private final JavaPlugin plugin;
+    private final boolean disableAdvancements;
+    private final boolean disableStatistics;
+    private final Map<Topic, Listener> listeners;
+    private final Map<Topic, Integer> subscriberCounts;
+
+    public EventSubscriptions(JavaPlugin plugin, GameManager gameManager, boolean disableAdvancements, boolean disableStatistics) {
+        this.plugin = plugin;
+        this.disableAdvancements = disableAdvancements;
+        this.disableStatistics = disableStatistics;
+        this.listeners = new EnumMap<>(Topic.class);
+        this.subscriberCounts = new EnumMap<>(Topic.class);
+
+        listeners.put(Topic.ITEM_TASKS, new ItemTaskListener(gameManager));
+        listeners.put(Topic.ADVANCEMENT_TASKS, new AdvancementTaskListener(gameManager));
+        listeners.put(Topic.STATISTIC_TASKS, new StatisticTaskListener(gameManager));
+        listeners.put(Topic.PLAYER_MOVEMENT, new PlayerMovementListener(gameManager));
+    }
+
+    public void subscribe(Topic topic) {
+        if (isDisabled(topic)) {
+            return;
+        }
+
+        int count = subscriberCounts.merge(topic, 1, Integer::sum);
+        if (count == 1) {
+            Bukkit.getPluginManager().registerEvents(listeners.get(topic), plugin);
+            DebugLogger.addLog("Registered listener for " + topic);
+        }
+    }
+
+    public void unsubscribe(Topic topic) {
+        Integer count = subscriberCounts.get(topic);
+        if (count == null) {
+            return;
+        }
+
+        if (count > 1) {
+            subscriberCounts.put(topic, count - 1);
+            return;
+        }
+
+        subscriberCounts.remove(topic);
+        HandlerList.unregisterAll(listeners.get(topic));
+        DebugLogger.addLog("Unregistered listener for " + topic);
+    }
+
+    public void unsubscribeAll() {
+        for (Topic topic : subscriberCounts.keySet()) {
+            HandlerList.unregisterAll(listeners.get(topic));
+        }
+        subscriberCounts.clear();
+    }
+
+    private boolean isDisabled(Topic topic) {
+        return switch (topic) {
+            case ADVANCEMENT_TASKS -> disableAdvancements;
+            case STATISTIC_TASKS -> disableStatistics;
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.steaf23.bingoreloaded.event.core;
+
+import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
+import io.github.steaf23.bingoreloaded.gameloop.GameManager;
+import io.github.steaf23.bingoreloaded.gameloop.phase.BingoGame;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.InventoryMoveItemEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.inventory.Inventory;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+
+/**
+ * Listens to events that change the items players are carrying, only registered while any game has item tasks to complete.
+ */
+public class ItemTaskListener implements Listener
+{
+    private final GameManager gameManager;
+
+    public ItemTaskListener(GameManager gameManager)
+    {
+        this.gameManager = gameManager;
+    }
+
+    @Nullable
+    private BingoGame getStartedGame(@NotNull World world)
+    {
+        BingoSession session = gameManager.getSessionFromWorld(world);
+        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
+        return game != null && game.hasStarted() ? game : null;
+    }
+
+    @EventHandler
+    public void handlePlayerDropItem(final PlayerDropItemEvent event)
+    {
+        BingoGame game = getStartedGame(event.getPlayer().getWorld());
+        if (game != null)
+        {
+            game.getProgressTracker().handlePlayerDroppedItem(event);
+        }
+    }
+
+    @EventHandler
+    public void handlePlayerPickupItem(final EntityPickupItemEvent event)
+    {
+        BingoGame game = getStartedGame(event.getEntity().getWorld());
+        if (game != null)
+        {
+            game.getProgressTracker().handlePlayerPickupItem(event);
+        }
+    }
+
+    @EventHandler
+    public void handleInventoryClicked(final InventoryClickEvent event)
+    {
+        BingoGame game = getStartedGame(event.getWhoClicked().getWorld());
+        if (game != null)
+        {
+            game.getProgressTracker().handleInventoryClicked(event);
+        }
+    }
+
+    @EventHandler
+    public void handleInventoryDragged(final InventoryDragEvent event)
+    {
+        BingoGame game = getStartedGame(event.getWhoClicked().getWorld());
+        if (game != null)
+        {
+            game.getProgressTracker().handleInventoryDragged(event);
+        }
+    }
+
+    @EventHandler
+    public void handleInventoryMoveItem(final InventoryMoveItemEvent event)
+    {
+        // Only moves into or out of a player's inventory are interesting, check the type first to avoid creating block state snapshots.
+        Inventory playerInventory = event.getDestination().getType() == InventoryType.PLAYER ? event.getDestination() :
+                event.getSource().getType() == InventoryType.PLAYER ? event.getSource() : null;
+        if (playerInventory == null || !(playerInventory.getHolder() instanceof Player player))
+            return;
+
+        BingoGame game = getStartedGame(player.getWorld());
+        if (game != null)
+        {
+            game.getProgressTracker().handleInventoryMoveItem(event, player);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.steaf23.bingoreloaded.event.core;
+
+import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
+import io.github.steaf23.bingoreloaded.gameloop.GameManager;
+import io.github.steaf23.bingoreloaded.gameloop.phase.BingoGame;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
+
+/**
+ * Only registered while any game is in its starting countdown (to keep players in place) or has travel statistics to complete.
+ */
+public class PlayerMovementListener implements Listener
+{
+    private final GameManager gameManager;
+
+    public PlayerMovementListener(GameManager gameManager)
+    {
+        this.gameManager = gameManager;
+    }
+
+    @EventHandler
+    public void handlePlayerMove(final PlayerMoveEvent event)
+    {
+        BingoSession session = gameManager.getSessionFromWorld(event.getPlayer().getWorld());
+        if (session == null)
+            return;
+
+        if (session.isRunning())
+        {
+            BingoGame game = (BingoGame)session.phase();
+            game.getProgressTracker().handlePlayerMove(event);
+            game.handlePlayerMove(event);
+        }
+    }
+
+    @EventHandler
+    public void handleVehicleMove(final VehicleMoveEvent event)
+    {
+        BingoSession session = gameManager.getSessionFromWorld(event.getVehicle().getWorld());
+        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
+        if (game != null)
+        {
+            game.getProgressTracker().handleVehicleMove(event);
+        }
+    }
+}
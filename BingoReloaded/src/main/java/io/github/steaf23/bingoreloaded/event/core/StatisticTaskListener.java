@@ -0,0 +1,44 @@
+package io.github.steaf23.bingoreloaded.event.core;
+
+import io.github.steaf23.bingoreloaded.event.BingoStatisticCompletedEvent;
+import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
+import io.github.steaf23.bingoreloaded.gameloop.GameManager;
+import io.github.steaf23.bingoreloaded.gameloop.phase.BingoGame;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerStatisticIncrementEvent;
+
+/**
+ * Only registered while any game has statistic tasks to complete.
+ */
+public class StatisticTaskListener implements Listener
+{
+    private final GameManager gameManager;
+
+    public StatisticTaskListener(GameManager gameManager)
+    {
+        this.gameManager = gameManager;
+    }
+
+    @EventHandler
+    public void handleStatisticIncrement(final PlayerStatisticIncrementEvent event)
+    {
+        BingoSession session = gameManager.getSessionFromWorld(event.getPlayer().getWorld());
+        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
+        if (game != null)
+        {
+            game.getProgressTracker().handlePlayerStatIncrement(event);
+        }
+    }
+
+    @EventHandler
+    public void handleBingoStatisticCompleted(final BingoStatisticCompletedEvent event)
+    {
+        BingoSession session = event.getSession();
+        BingoGame game = session != null && session.isRunning() ? (BingoGame)session.phase() : null;
+        if (game != null)
+        {
+            game.getProgressTracker().handleBingoStatisticCompleted(event);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package io.github.steaf23.bingoreloaded.gameloop;
 
 import io.github.steaf23.bingoreloaded.BingoReloaded;
+import io.github.steaf23.bingoreloaded.cards.CardFactory;
+import io.github.steaf23.bingoreloaded.cards.CardTaskPregenerator;
 import io.github.steaf23.bingoreloaded.data.BingoCardData;
 import io.github.steaf23.bingoreloaded.data.BingoMessage;
 import io.github.steaf23.bingoreloaded.data.config.BingoConfigurationData;
@@ -52,6 +54,7 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
 
@@ -68,6 +71,7 @@ public class BingoSession implements ForwardingAudience
     private final MenuBoard menuBoard;
     private final HUDRegistry hudRegistry;
     private final TeamDisplay teamDisplay;
+    private final CardTaskPregenerator cardPregenerator;
 
     // A bingo session controls 1 group of worlds
     private final WorldGroup worlds;
@@ -92,6 +96,7 @@ public class BingoSession implements ForwardingAudience
         }
 
         this.teamDisplay = new TeamDisplay(this);
+        this.cardPregenerator = new CardTaskPregenerator();
         this.phase = null;
 
         //TODO: decide a better place for this command
@@ -145,6 +150,35 @@ public class BingoSession implements ForwardingAudience
         phase.setup();
     }
 
+    /**
+     * Start generating the cards of the next game on a worker thread, using the settings the game would start with right now.
+     * When the game starts with different settings the cards will be generated at the start instead.
+     */
+    public void prepareNextCards() {
+        if (!(phase instanceof PregameLobby lobby)) {
+            return;
+        }
+
+        BingoSettings settings = settingsBuilder.view();
+        if (config.getOptionValue(BingoOptions.USE_VOTE_SYSTEM)) {
+            VoteTicket voteResult = VoteTicket.getVoteResult(lobby.getAllVotes());
+            if (!voteResult.isEmpty()) {
+                settings = settingsBuilder.applyVoteResult(voteResult).view();
+            }
+        }
+
+        if (!new BingoCardData().getCardNames().contains(settings.card())) {
+            return;
+        }
+
+        int cardCount = settings.differentCardPerTeam() ? Math.max(1, teamManager.getTeamCount()) : 1;
+        cardPregenerator.prepare(CardFactory.createGeneratorSettings(settings, config), cardCount);
+    }
+
+    public CardTaskPregenerator getCardPregenerator() {
+        return cardPregenerator;
+    }
+
     public void endGame() {
         if (!isRunning()) return;
 
@@ -190,7 +224,8 @@ public class BingoSession implements ForwardingAudience
     }
 
     public void handleGameEnded(final BingoEndedEvent event) {
-        phase = new PostGamePhase(this, config.getOptionValue(BingoOptions.GAME_RESTART_TIME));
+        phase = new PostGamePhase(this, config.getOptionValue(BingoOptions.GAME_RESTART_TIME),
+                phase instanceof BingoGame game ? game.getCardRenderers() : List.of());
         phase.setup();
     }
 
@@ -7,8 +7,12 @@ import io.github.steaf23.bingoreloaded.data.config.BingoOptions;
 import io.github.steaf23.bingoreloaded.data.core.helper.SerializablePlayer;
 import io.github.steaf23.bingoreloaded.data.world.WorldData;
 import io.github.steaf23.bingoreloaded.data.world.WorldGroup;
+import io.github.steaf23.bingoreloaded.event.ParticipantJoinedTeamEvent;
+import io.github.steaf23.bingoreloaded.event.ParticipantLeftTeamEvent;
 import io.github.steaf23.bingoreloaded.event.PrepareNextBingoGameEvent;
 import io.github.steaf23.bingoreloaded.event.core.BingoEventListener;
+import io.github.steaf23.bingoreloaded.event.core.EventSubscriptions;
+import io.github.steaf23.bingoreloaded.gui.map.CardMapPool;
 import io.github.steaf23.bingoreloaded.player.BingoParticipant;
 import io.github.steaf23.bingoreloaded.player.BingoPlayer;
 import io.github.steaf23.playerdisplay.inventory.MenuBoard;
@@ -22,6 +26,8 @@ import org.bukkit.event.HandlerList;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -30,10 +36,15 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 public class GameManager
 {
     protected final Map<String, BingoSession> sessions;
+    // Sessions by the unique id of each world they own.
+    private final Map<UUID, BingoSession> sessionsByWorld;
+    // Sessions by the id of the players participating in them, only used after checking the player is still participating.
+    private final Map<UUID, BingoSession> sessionsByPlayer;
 
     private final JavaPlugin plugin;
     private final BingoConfigurationData config;
@@ -42,7 +53,9 @@ public class GameManager
 
     private final PlayerSerializationData playerData;
     private final BingoEventListener eventListener;
+    private final EventSubscriptions eventSubscriptions;
     private final WorldData worldData;
+    private final CardMapPool cardMapPool;
 
     private boolean teleportingPlayer;
 
@@ -57,8 +70,12 @@ public class GameManager
         this.worldData = new WorldData(plugin, generationSettings);
 
         this.sessions = new HashMap<>();
+        this.sessionsByWorld = new HashMap<>();
+        this.sessionsByPlayer = new HashMap<>();
         this.playerData = new PlayerSerializationData();
-        this.eventListener = new BingoEventListener(this,
+        this.cardMapPool = new CardMapPool();
+        this.eventListener = new BingoEventListener(this);
+        this.eventSubscriptions = new EventSubscriptions(plugin, this,
                 config.getOptionValue(BingoOptions.DISABLE_ADVANCEMENTS),
                 config.getOptionValue(BingoOptions.DISABLE_STATISTICS));
 
@@ -85,11 +102,28 @@ public class GameManager
             return false;
         }
 
-        BingoSession session = new BingoSession(menuBoard, hudRegistry, worldData.createWorldGroup(sessionName), config);
-        sessions.put(sessionName, session);
+        WorldGroup group = worldData.createWorldGroup(sessionName);
+        addSession(sessionName, new BingoSession(menuBoard, hudRegistry, group, config), group);
         return true;
     }
 
+    protected void addSession(String sessionName, BingoSession session, WorldGroup worlds) {
+        sessions.put(sessionName, session);
+        sessionsByWorld.put(worlds.overworldId(), session);
+        sessionsByWorld.put(worlds.netherId(), session);
+        sessionsByWorld.put(worlds.endId(), session);
+    }
+
+    private void removeSession(String sessionName) {
+        BingoSession session = sessions.remove(sessionName);
+        if (session == null) {
+            return;
+        }
+
+        sessionsByWorld.values().removeIf(s -> s == session);
+        sessionsByPlayer.values().removeIf(s -> s == session);
+    }
+
     public boolean destroySession(String sessionName) {
         if (!sessions.containsKey(sessionName)) {
             return false;
@@ -103,7 +137,7 @@ public class GameManager
         }
         worldData.destroyWorldGroup(group);
         sessions.get(sessionName).destroy();
-        sessions.remove(sessionName);
+        removeSession(sessionName);
         return true;
     }
 
@@ -141,13 +175,7 @@ public class GameManager
     }
 
     public @Nullable BingoSession getSessionFromWorld(@NotNull World world) {
-        for (String session : sessions.keySet()) {
-            BingoSession s = sessions.get(session);
-            if (s.ownsWorld(world)) {
-                return s;
-            }
-        }
-        return null;
+        return sessionsByWorld.get(world.getUID());
     }
 
     public String getNameOfSession(@Nullable BingoSession session) {
@@ -160,10 +188,11 @@ public class GameManager
 
     public void onPluginDisable() {
         HandlerList.unregisterAll(eventListener);
+        eventSubscriptions.unsubscribeAll();
 
-        for (String session : sessions.keySet()) {
+        for (String session : List.copyOf(sessions.keySet())) {
             sessions.get(session).destroy();
-            sessions.remove(session);
+            removeSession(session);
         }
     }
 
@@ -190,14 +219,21 @@ public class GameManager
     }
 
     public @Nullable BingoSession getSessionOfPlayer(Player player) {
-        for (String sessionName : sessions.keySet()) {
-            BingoSession session = sessions.get(sessionName);
+        BingoSession indexedSession = sessionsByPlayer.get(player.getUniqueId());
+        if (indexedSession != null && indexedSession.teamManager.getPlayerAsParticipant(player) != null) {
+            return indexedSession;
+        }
+
+        // Teams can be reset without participants leaving them one by one, so check all sessions when the index is out of date.
+        for (BingoSession session : sessions.values()) {
             BingoParticipant participant = session.teamManager.getPlayerAsParticipant(player);
             if (participant != null) {
+                sessionsByPlayer.put(player.getUniqueId(), session);
                 return session;
             }
         }
 
+        sessionsByPlayer.remove(player.getUniqueId());
         return null;
     }
 
@@ -304,6 +340,32 @@ public class GameManager
         }
     }
 
+    public void handleParticipantJoinedTeam(final ParticipantJoinedTeamEvent event) {
+        if (event.getSession() != null) {
+            sessionsByPlayer.put(event.getParticipant().getId(), event.getSession());
+        }
+    }
+
+    public void handleParticipantLeftTeam(final ParticipantLeftTeamEvent event) {
+        if (event.getSession() != null) {
+            sessionsByPlayer.remove(event.getParticipant().getId(), event.getSession());
+        }
+    }
+
+    public void handleWorldLoad(final WorldLoadEvent event) {
+        World world = event.getWorld();
+        for (BingoSession session : sessions.values()) {
+            if (session.ownsWorld(world)) {
+                sessionsByWorld.put(world.getUID(), session);
+                return;
+            }
+        }
+    }
+
+    public void handleWorldUnload(final WorldUnloadEvent event) {
+        sessionsByWorld.remove(event.getWorld().getUID());
+    }
+
     public void handlePrepareNextBingoGame(final PrepareNextBingoGameEvent event) {
         if (config.getOptionValue(BingoOptions.SAVE_PLAYER_INFORMATION) &&
                 config.getOptionValue(BingoOptions.LOAD_PLAYER_INFORMATION_STRATEGY) == BingoOptions.LoadPlayerInformationStrategy.AFTER_GAME) {
@@ -316,6 +378,14 @@ public class GameManager
         }
     }
 
+    public EventSubscriptions getEventSubscriptions() {
+        return eventSubscriptions;
+    }
+
+    public CardMapPool getCardMapPool() {
+        return cardMapPool;
+    }
+
     public PlayerSerializationData getPlayerData() {
         return playerData;
     }
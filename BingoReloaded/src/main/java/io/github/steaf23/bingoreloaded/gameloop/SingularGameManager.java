@@ -24,7 +24,7 @@ public class SingularGameManager extends GameManager
         }
 
         BingoSession session = new BingoSession(menuBoard, hudRegistry, group, config);
-        sessions.put(config.getOptionValue(BingoOptions.DEFAULT_WORLD_NAME), session);
+        addSession(config.getOptionValue(BingoOptions.DEFAULT_WORLD_NAME), session, group);
     }
 
     // Don't create extra worlds...
@@ -20,6 +20,7 @@ import io.github.steaf23.bingoreloaded.event.ParticipantJoinedTeamEvent;
 import io.github.steaf23.bingoreloaded.event.ParticipantLeftTeamEvent;
 import io.github.steaf23.bingoreloaded.event.PlayerJoinedSessionWorldEvent;
 import io.github.steaf23.bingoreloaded.event.PlayerLeftSessionWorldEvent;
+import io.github.steaf23.bingoreloaded.event.core.EventSubscriptions;
 import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
 import io.github.steaf23.bingoreloaded.gui.hud.BingoGameHUDGroup;
 import io.github.steaf23.bingoreloaded.gui.inventory.EffectOptionFlags;
@@ -67,13 +68,13 @@ import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.map.MapRenderer;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.util.Vector;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -93,6 +94,7 @@ public class BingoGame implements GamePhase
     private GameTimer timer;
     private CountdownTimer startingTimer;
     private boolean gameStarted;
+    private boolean keepingPlayersInPlace;
     private final ActionBarManager actionBarManager;
     //Used to override bed spawns if they get broken to reset spawn point to game spawn point.
     private final Map<UUID, Location> playerSpawnPoints;
@@ -127,6 +129,7 @@ public class BingoGame implements GamePhase
             actionBarManager.requestMessage(p -> timerMessage, 0);
             actionBarManager.update();
             getProgressTracker().updateStatisticProgress();
+            getProgressTracker().updateItemCounts(time);
             scoreboard.updateVisible();
         });
 
@@ -138,20 +141,17 @@ public class BingoGame implements GamePhase
         world.setStorm(false);
         world.setTime(1000);
 
-        // Generate cards
-        boolean useAdvancements = !(BingoReloaded.areAdvancementsDisabled() || config.getOptionValue(BingoOptions.DISABLE_ADVANCEMENTS));
-
-        GameTask.TaskDisplayMode advancementDisplayMode = config.getOptionValue(BingoOptions.SHOW_UNIQUE_ADVANCEMENT_ITEMS) ? GameTask.TaskDisplayMode.UNIQUE_TASK_ITEMS : GameTask.TaskDisplayMode.GENERIC_TASK_ITEMS;
-        GameTask.TaskDisplayMode statisticDisplayMode = config.getOptionValue(BingoOptions.SHOW_UNIQUE_STATISTIC_ITEMS) ? GameTask.TaskDisplayMode.UNIQUE_TASK_ITEMS : GameTask.TaskDisplayMode.GENERIC_TASK_ITEMS;
+        // Generate cards, or use the cards the session has prepared already
         Set<TaskCard> uniqueCards = CardFactory.generateCardsForGame(this, session.getMenuBoard(),
-                useAdvancements, !config.getOptionValue(BingoOptions.DISABLE_STATISTICS),
-                advancementDisplayMode, statisticDisplayMode);
+                CardFactory.createGeneratorSettings(settings, config), session.getCardPregenerator());
+        session.getCardPregenerator().clear();
 
         if (config.getOptionValue(BingoOptions.USE_MAP_RENDERER)) {
             getTeamManager().getActiveTeams().forEach(team -> {
                 Optional<TaskCard> card = team.getCard();
                 card.ifPresentOrElse(
-                        taskCard -> renderers.put(team, new BingoCardMapRenderer(BingoReloaded.getInstance(), taskCard, team)),
+                        taskCard -> renderers.put(team, new BingoCardMapRenderer(BingoReloaded.getInstance(), taskCard, team,
+                                BingoReloaded.getInstance().getGameManager().getCardMapPool())),
                         () -> ConsoleMessenger.bug("Could not generate card for team " + PlainTextComponentSerializer.plainText().serialize(team.getColoredName()), this)
                 );
             });
@@ -199,6 +199,9 @@ public class BingoGame implements GamePhase
         for (TaskCard card : uniqueCards) {
             card.getTasks().forEach(t -> getProgressTracker().startTrackingTask(t));
         }
+        if (!config.getOptionValue(BingoOptions.DISABLE_ADVANCEMENTS)) {
+            getProgressTracker().revokeExtraAdvancements(config.getOptionValue(BingoOptions.EXTRA_REVOKED_ADVANCEMENTS));
+        }
 
         // Post-start Setup
         scoreboard.setup(settings);
@@ -206,7 +209,9 @@ public class BingoGame implements GamePhase
         var event = new BingoStartedEvent(session);
         Bukkit.getPluginManager().callEvent(event);
 
-        // Countdown before the game actually starts
+        // Countdown before the game actually starts, players cannot move away from their spawn until it has finished
+        BingoReloaded.getInstance().getGameManager().getEventSubscriptions().subscribe(EventSubscriptions.Topic.PLAYER_MOVEMENT);
+        keepingPlayersInPlace = true;
         startingTimer = new CountdownTimer(Math.max(1, config.getOptionValue(BingoOptions.STARTING_COUNTDOWN_TIME)), 6, 3, session);
         startingTimer.addNotifier(time -> {
             Component timeComponent = Component.text(time);
@@ -243,6 +248,15 @@ public class BingoGame implements GamePhase
         return gameStarted;
     }
 
+    private void stopKeepingPlayersInPlace() {
+        if (!keepingPlayersInPlace) {
+            return;
+        }
+
+        keepingPlayersInPlace = false;
+        BingoReloaded.getInstance().getGameManager().getEventSubscriptions().unsubscribe(EventSubscriptions.Topic.PLAYER_MOVEMENT);
+    }
+
     public void end(@Nullable BingoTeam winningTeam) {
         // If the starting timer was still running
         if (startingTimer != null) {
@@ -252,6 +266,8 @@ public class BingoGame implements GamePhase
         }
         BingoPlayerSender.sendMessage(timer.getTimeDisplayMessage(false), session);
         timer.stop();
+        progressTracker.stop();
+        stopKeepingPlayersInPlace();
 
         if (!config.getOptionValue(BingoOptions.KEEP_SCOREBOARD_VISIBLE)) {
             scoreboard.setup(settings);
@@ -326,11 +342,18 @@ public class BingoGame implements GamePhase
         return actionBarManager;
     }
 
-    public void returnCardToPlayer(int cardSlot, BingoParticipant participant, @Nullable MapRenderer cardRenderer) {
+    /**
+     * @return renderers of the card maps handed out to each team during this game.
+     */
+    public Collection<BingoCardMapRenderer> getCardRenderers() {
+        return renderers.values();
+    }
+
+    public void returnCardToPlayer(int cardSlot, BingoParticipant participant, @Nullable BingoCardMapRenderer cardRenderer) {
         if (participant.sessionPlayer().isEmpty())
             return;
 
-        participant.giveBingoCard(cardSlot, cardRenderer);
+        participant.giveBingoCard(cardSlot, cardRenderer == null ? null : cardRenderer.getMapView(participant.sessionPlayer().get().getWorld()));
         participant.sessionPlayer().get().setGameMode(GameMode.SURVIVAL);
 
         BingoReloaded.scheduleTask(task -> participant.giveEffects(settings.effects(), config.getOptionValue(BingoOptions.GRACE_PERIOD)), BingoReloaded.ONE_SECOND);
@@ -349,6 +372,7 @@ public class BingoGame implements GamePhase
     private void startDeathMatchRecurse(int countdown) {
         if (countdown == 0) {
             deathMatchTask = new GameTask(new BingoCardData().getRandomItemTask(settings.card()), GameTask.TaskDisplayMode.UNIQUE_TASK_ITEMS);
+            getProgressTracker().updateSubscriptions();
 
             BingoPlayerSender.sendTitle(
                     Component.text("GO").color(NamedTextColor.GOLD).decorate(TextDecoration.BOLD),
@@ -571,16 +595,7 @@ public class BingoGame implements GamePhase
 
 
         // Start death match when all tasks have been completed in lockout
-        BingoTeam leadingTeam = teamManager.getActiveTeams().getLeadingTeam();
-        if (leadingTeam == null) {
-            return;
-        }
-        Optional<TaskCard> card = teamManager.getActiveTeams().getLeadingTeam().getCard();
-        if (!(card.orElse(null) instanceof LockoutTaskCard lockoutCard)) {
-            return;
-        }
-
-        if (teamManager.getActiveTeams().getTotalCompleteCount() == lockoutCard.size.fullCardSize) {
+        if (participant.getCard().orElse(null) instanceof LockoutTaskCard lockoutCard && lockoutCard.getUnclaimedCount() == 0) {
             startDeathMatch(5);
         }
     }
@@ -741,6 +756,8 @@ public class BingoGame implements GamePhase
                 startDeathMatch(5);
             }
         } else if (event.getTimer() == startingTimer) {
+            progressTracker.finishRevokingAdvancements();
+            stopKeepingPlayersInPlace();
             timer.start();
             gameStarted = true;
             var soundEvent = new BingoPlaySoundEvent(session, Sound.ENTITY_FIREWORK_ROCKET_LARGE_BLAST);
@@ -811,6 +828,7 @@ public class BingoGame implements GamePhase
         if (!(participant instanceof BingoPlayer player))
             return;
 
+        progressTracker.removeParticipant(player);
         player.takeEffects(false);
     }
 
@@ -824,6 +842,7 @@ public class BingoGame implements GamePhase
 
     @Override
     public void handleParticipantLeftTeam(ParticipantLeftTeamEvent event) {
+        progressTracker.removeParticipant(event.getParticipant());
         if (!(event.getParticipant() instanceof BingoPlayer player))
             return;
 
@@ -5,6 +5,7 @@ import io.github.steaf23.bingoreloaded.event.BingoSettingsUpdatedEvent;
 import io.github.steaf23.bingoreloaded.event.PlayerJoinedSessionWorldEvent;
 import io.github.steaf23.bingoreloaded.event.PlayerLeftSessionWorldEvent;
 import io.github.steaf23.bingoreloaded.gameloop.BingoSession;
+import io.github.steaf23.bingoreloaded.gui.map.BingoCardMapRenderer;
 import io.github.steaf23.bingoreloaded.player.BingoParticipant;
 import io.github.steaf23.bingoreloaded.player.team.BingoTeam;
 import io.github.steaf23.bingoreloaded.settings.PlayerKit;
@@ -16,14 +17,20 @@ import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Collection;
+import java.util.List;
+
 public class PostGamePhase implements GamePhase
 {
     private final CountdownTimer timer;
     private final BingoSession session;
+    // Players keep their card items during this phase, so the maps of the ended game can only be reused once this phase ends.
+    private final List<BingoCardMapRenderer> cardRenderers;
 
-    public PostGamePhase(BingoSession session, int durationSeconds) {
+    public PostGamePhase(BingoSession session, int durationSeconds, Collection<BingoCardMapRenderer> cardRenderers) {
         this.session = session;
         this.timer = new CountdownTimer(durationSeconds, session);
+        this.cardRenderers = List.copyOf(cardRenderers);
     }
 
     @Override
@@ -48,6 +55,7 @@ public class PostGamePhase implements GamePhase
         for (BingoTeam team : session.teamManager.getActiveTeams()) {
             team.setCard(null);
         }
+        cardRenderers.forEach(BingoCardMapRenderer::releaseMapView);
     }
 
     @Override
@@ -113,6 +113,9 @@ public class PregameLobby implements GamePhase
             return;
         }
         votes.put(player.getUniqueId(), ticket);
+        if (playerCountTimer.isRunning()) {
+            session.prepareNextCards();
+        }
 
         int count = 0;
         for (VoteTicket t : votes.values()) {
@@ -191,6 +194,8 @@ public class PregameLobby implements GamePhase
         }
 
         playerCountTimer.start();
+        // The settings are likely to be final at this point, so start preparing the cards.
+        session.prepareNextCards();
         if (playerCountTimer.getTime() > 10) {
             BingoMessage.STARTING_STATUS.sendToAudience(session,
                     Component.text(config.getOptionValue(BingoOptions.PLAYER_WAIT_TIME)).color(NamedTextColor.GOLD));
@@ -251,6 +256,9 @@ public class PregameLobby implements GamePhase
     @Override
     public void handleSettingsUpdated(final BingoSettingsUpdatedEvent event) {
         settingsHUD.updateSettings(event.getNewSettings(), config);
+        if (playerCountTimer.isRunning()) {
+            session.prepareNextCards();
+        }
     }
 
     @Override
@@ -44,7 +44,6 @@ public class TemplatedPlayerHUD extends PlayerHUD
 
         // Newlines on the scoreboard lines is not supported, so we can ignore it.
         // Also assume that every template line is a config string.
-        sidebar.clear();
 
         // Step 1. collect all components, including ones from template arguments, into a single list of components.
         int lineIndex = 0;
@@ -112,12 +111,10 @@ public class TemplatedPlayerHUD extends PlayerHUD
             lineIndex++;
         }
 
-        // Step 2. add all components to the scoreboard, stopping at the limit
-        for (int i = 0; i < components.size(); i++) {
-            if (i >= 15) {
-                break;
-            }
-            sidebar.setText(i, components.get(i));
+        // Step 2. add all components to the scoreboard, stopping at the limit, and clear the lines that are no longer used.
+        // The sidebar only sends the lines that have changed since the last update.
+        for (int i = 0; i < 15; i++) {
+            sidebar.setText(i, i < components.size() ? components.get(i) : null);
         }
 
         super.update();
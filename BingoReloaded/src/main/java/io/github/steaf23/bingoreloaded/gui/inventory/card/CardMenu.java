@@ -19,8 +19,27 @@ import java.util.List;
 
 public interface CardMenu
 {
+    /**
+     * State of a task that influences how it is shown in the menu, used to find out which slots have to be updated.
+     */
+    record TaskDisplayState(GameTask task, boolean completed, boolean voided)
+    {
+        public static TaskDisplayState of(GameTask task) {
+            return new TaskDisplayState(task, task.isCompleted(), task.isVoided());
+        }
+
+        public boolean matches(GameTask other) {
+            return task == other && completed == other.isCompleted() && voided == other.isVoided();
+        }
+    }
+
     void setInfo(Component title, Component... description);
     void updateTasks(List<GameTask> tasks);
+
+    /**
+     * Update the slot of a single task for everyone viewing this menu, after the state of that task has changed.
+     */
+    void updateTask(int taskIndex);
     void open(HumanEntity entity);
 
     /**
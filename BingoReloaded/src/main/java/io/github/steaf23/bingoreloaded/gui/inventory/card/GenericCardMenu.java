@@ -24,6 +24,8 @@ public class GenericCardMenu extends BasicMenu implements CardMenu
     protected final CardSize size;
     protected final BingoGamemode mode;
     protected List<GameTask> tasks;
+    // State of each task when its slot was last set, so only the slots of tasks that changed have to be updated.
+    private TaskDisplayState[] shownTasks;
     private final boolean showAllCards;
 
     public GenericCardMenu(MenuBoard menuBoard, BingoGamemode mode, CardSize cardSize, boolean allowViewingAllCards, @Nullable Component alternateTitle)
@@ -32,6 +34,7 @@ public class GenericCardMenu extends BasicMenu implements CardMenu
         this.size = cardSize;
         this.mode = mode;
         this.tasks = new ArrayList<>();
+        this.shownTasks = new TaskDisplayState[0];
         setMaxStackSizeOverride(64);
         this.showAllCards = allowViewingAllCards;
         if (allowViewingAllCards) {
@@ -41,12 +44,25 @@ public class GenericCardMenu extends BasicMenu implements CardMenu
 
     public void updateTasks(List<GameTask> tasks) {
         this.tasks = tasks;
+        this.shownTasks = new TaskDisplayState[tasks.size()];
         for (int i = 0; i < tasks.size(); i++)
         {
-            addItem(getItemFromTask(i).setSlot(size.getCardInventorySlot(i)));
+            setTaskItem(i);
         }
     }
 
+    @Override
+    public void updateTask(int taskIndex) {
+        if (taskIndex < tasks.size()) {
+            setTaskItem(taskIndex);
+        }
+    }
+
+    private void setTaskItem(int taskIndex) {
+        addItem(getItemFromTask(taskIndex).setSlot(size.getCardInventorySlot(taskIndex)));
+        shownTasks[taskIndex] = TaskDisplayState.of(tasks.get(taskIndex));
+    }
+
     public CardMenu copy(@Nullable Component newTitle) {
         return new GenericCardMenu(getMenuBoard(), mode, size, allowViewingOtherCards(), newTitle);
     }
@@ -70,9 +86,12 @@ public class GenericCardMenu extends BasicMenu implements CardMenu
 
     @Override
     public void beforeOpening(HumanEntity player) {
+        // Contents are kept between openings, only update tasks that changed without the menu being notified.
         for (int i = 0; i < tasks.size(); i++)
         {
-            addItem(getItemFromTask(i).setSlot(size.getCardInventorySlot(i)));
+            if (shownTasks[i] == null || !shownTasks[i].matches(tasks.get(i))) {
+                setTaskItem(i);
+            }
         }
     }
 }
@@ -10,18 +10,12 @@ import io.github.steaf23.bingoreloaded.tasks.GameTask;
 import io.github.steaf23.playerdisplay.inventory.MenuBoard;
 import io.github.steaf23.playerdisplay.inventory.item.ItemTemplate;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.TextColor;
-import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.HumanEntity;
-import org.bukkit.inventory.Inventory;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 public class HotswapTexturedCardMenu extends TexturedCardMenu implements HotswapCardMenu
 {
@@ -70,29 +64,8 @@ public class HotswapTexturedCardMenu extends TexturedCardMenu implements Hotswap
         this.taskHolders = taskHolders;
         updateTasks(null);
 
-        //TODO: check if inventory needs to be recreated at all by comparing completed items
-        Map<Integer, TextColor> completedSlots = new HashMap<>();
-        for (int i = 0; i < tasks.size(); i++) {
-            int rawSlot = getSlotForTask(i);
-            if (tasks.get(i).isCompleted()) {
-                tasks.get(i).getCompletedByTeam().ifPresent(team -> completedSlots.put(rawSlot, team.getColor()));
-            }
-        }
-
-        Inventory oldInventory = getInventory();
-        //trick the menu system by remaking the inventory, which will fail its inventory comparison when reading close event.
-        setOpenedInventory(Bukkit.createInventory(null, 6 * 9, getStartingTitle()
-                .append(SlotBackgroundRenderer.slotCompletedBackground(completedSlots))));
-
-        setTaskItems();
-        addItem(getInfo());
-        if (oldInventory == null) {
-            return;
-        }
-        var viewers = new ArrayList<>(oldInventory.getViewers());
-        viewers.forEach(p -> {
-            p.openInventory(getInventory());
-        });
+        // The time left is shown on all tasks, so all slots have to be updated every time.
+        refreshTasks(true);
     }
 
     @Override
@@ -36,6 +36,10 @@ public class TexturedCardMenu implements Menu, CardMenu
     protected final BingoGamemode mode;
     protected final CardSize size;
     protected List<GameTask> tasks;
+    // State of each task when its slot was last set, so only the slots of tasks that changed have to be updated.
+    private TaskDisplayState[] shownTasks;
+    // Completed slot backgrounds shown in the title of the current inventory.
+    private Map<Integer, TextColor> shownCompletedSlots;
 
     private final MenuItemGroup itemGroup;
     private final Component startingTitle;
@@ -53,6 +57,8 @@ public class TexturedCardMenu implements Menu, CardMenu
 
         this.board = board;
         this.tasks = new ArrayList<>();
+        this.shownTasks = new TaskDisplayState[0];
+        this.shownCompletedSlots = null;
         this.mode = mode;
         this.size = size;
         this.itemGroup = new MenuItemGroup();
@@ -98,6 +104,14 @@ public class TexturedCardMenu implements Menu, CardMenu
 
     public void updateTasks(List<GameTask> tasks) {
         this.tasks = tasks;
+        this.shownTasks = new TaskDisplayState[tasks.size()];
+    }
+
+    @Override
+    public void updateTask(int taskIndex) {
+        if (openedInventory != null) {
+            refreshTasks(false);
+        }
     }
 
     @Override
@@ -112,8 +126,16 @@ public class TexturedCardMenu implements Menu, CardMenu
 
     @Override
     public void beforeOpening(HumanEntity player) {
-        Map<Integer, TextColor> completedSlots = new HashMap<>();
+        refreshTasks(false);
+    }
 
+    /**
+     * Update the slots of tasks that changed since they were last shown.
+     * The inventory only has to be remade when the completed slot backgrounds in its title have changed.
+     * @param allSlots if true, update the slots of all tasks instead.
+     */
+    protected void refreshTasks(boolean allSlots) {
+        Map<Integer, TextColor> completedSlots = new HashMap<>();
         for (int i = 0; i < tasks.size(); i++) {
             int rawSlot = getSlotForTask(i);
             if (tasks.get(i).isCompleted()) {
@@ -121,10 +143,20 @@ public class TexturedCardMenu implements Menu, CardMenu
             }
         }
 
+        if (openedInventory != null && completedSlots.equals(shownCompletedSlots)) {
+            for (int i = 0; i < tasks.size(); i++) {
+                if (allSlots || shownTasks[i] == null || !shownTasks[i].matches(tasks.get(i))) {
+                    setTaskItem(i);
+                }
+            }
+            return;
+        }
+
         Inventory oldInventory = openedInventory;
         //trick the menu system by remaking the inventory, which will fail its inventory comparison when reading close event.
         openedInventory = Bukkit.createInventory(null, 6 * 9, startingTitle
                 .append(SlotBackgroundRenderer.slotCompletedBackground(completedSlots)));
+        shownCompletedSlots = completedSlots;
 
         setTaskItems();
         addItem(info);
@@ -213,11 +245,15 @@ public class TexturedCardMenu implements Menu, CardMenu
 
     protected void setTaskItems() {
         for (int i = 0; i < tasks.size(); i++) {
-            ItemTemplate item = getItemFromTask(i).setSlot(getSlotForTask(i));
-            addItem(item);
+            setTaskItem(i);
         }
     }
 
+    private void setTaskItem(int taskIndex) {
+        addItem(getItemFromTask(taskIndex).setSlot(getSlotForTask(taskIndex)));
+        shownTasks[taskIndex] = TaskDisplayState.of(tasks.get(taskIndex));
+    }
+
     protected ItemTemplate getInfo() {
         return info;
     }
@@ -1,20 +1,16 @@
 package io.github.steaf23.bingoreloaded.gui.map;
 
 import io.github.steaf23.bingoreloaded.cards.TaskCard;
-import io.github.steaf23.bingoreloaded.data.core.DataStorage;
-import io.github.steaf23.bingoreloaded.data.core.json.JsonDataAccessor;
-import io.github.steaf23.bingoreloaded.data.core.json.JsonDataStorage;
-import io.github.steaf23.bingoreloaded.data.core.tag.TagDataType;
 import io.github.steaf23.bingoreloaded.player.team.BingoTeam;
 import io.github.steaf23.bingoreloaded.tasks.GameTask;
 import io.github.steaf23.bingoreloaded.tasks.data.AdvancementTask;
 import io.github.steaf23.bingoreloaded.tasks.data.StatisticTask;
 import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
-import io.github.steaf23.playerdisplay.util.ExtraMath;
 import net.kyori.adventure.text.format.TextColor;
+import org.bukkit.Bukkit;
 import org.bukkit.Material;
-import org.bukkit.NamespacedKey;
 import org.bukkit.Registry;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.map.MapCanvas;
 import org.bukkit.map.MapRenderer;
@@ -23,40 +19,62 @@ import org.bukkit.map.MinecraftFont;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
-import javax.imageio.ImageIO;
-import java.awt.*;
-import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.Set;
+import java.util.WeakHashMap;
 
+/**
+ * Renders the card of a single team onto a map, which is shared by all players of the team.
+ * The card is drawn once into a cached image, after which only the slots whose task changed get redrawn and copied to the map canvas.
+ */
 public class BingoCardMapRenderer extends MapRenderer
 {
+    // Area around each slot that its task can draw into, slightly larger than the grid cell since icons and stamps can overlap neighbouring cells.
+    private static final int SLOT_AREA_OFFSET = 2;
+    private static final int SLOT_AREA_SIZE = 32;
+
+    private static final byte TEXT_SHADOW_COLOR = 47;
+    private static final byte TEXT_COLOR = 58;
+
     BingoTeam team;
     private final TaskCard card;
     private final JavaPlugin plugin;
+    private final CardMapPool mapPool;
 
     private final Random random;
     private final List<Vector> stampOffsets;
 
-    private static final Map<NamespacedKey, BufferedImage> allItemImages = new HashMap<>();
-    private static final Set<NamespacedKey> flatItems = new HashSet<>();
-
-    private static BufferedImage COMPLETED_OVERLAY = null;
-    private static BufferedImage BACKGROUND = null;
-    private static BufferedImage ADVANCEMENT_ICON = null;
-    private static BufferedImage STATISTIC_ICON = null;
-
-    public BingoCardMapRenderer(JavaPlugin plugin, TaskCard card, BingoTeam team) {
+    private final MapPixelBuffer buffer;
+    // Task and completing team of each slot at the time it was last drawn into the buffer.
+    private final GameTask[] drawnTasks;
+    private final BingoTeam[] drawnCompletedBy;
+    // Version of the buffer in which each slot was last redrawn.
+    private final int[] slotVersions;
+    private int version;
+    private int lastCheckedTick;
+    // Version of the buffer that was last copied to each canvas.
+    private final Map<MapCanvas, Integer> canvasVersions;
+    private MapView mapView;
+
+    private static TaskImageAtlas atlas = null;
+    private static boolean atlasLoaded = false;
+    // Completed overlay tinted in the color of each team that completed a task.
+    private static final Map<TextColor, MapImageTile> tintedOverlays = new HashMap<>();
+
+    private static MapImageTile COMPLETED_OVERLAY = null;
+    private static MapImageTile BACKGROUND = null;
+    private static MapImageTile ADVANCEMENT_ICON = null;
+    private static MapImageTile STATISTIC_ICON = null;
+
+    public BingoCardMapRenderer(JavaPlugin plugin, TaskCard card, BingoTeam team, CardMapPool mapPool) {
         this.plugin = plugin;
+        this.mapPool = mapPool;
         this.card = card;
 
         random = new Random();
@@ -67,165 +85,229 @@ public class BingoCardMapRenderer extends MapRenderer
             stampOffsets.add(getStampOffset(0, 4));
         }
 
-        if (!allItemImages.isEmpty()) {
+        buffer = new MapPixelBuffer();
+        drawnTasks = new GameTask[card.size.fullCardSize];
+        drawnCompletedBy = new BingoTeam[card.size.fullCardSize];
+        slotVersions = new int[card.size.fullCardSize];
+        version = 0;
+        lastCheckedTick = -1;
+        canvasVersions = new WeakHashMap<>();
+        mapView = null;
+    }
+
+    /**
+     * Load the task image atlas the first time any card gets rendered.
+     */
+    private static void loadAtlas(JavaPlugin plugin) {
+        if (atlasLoaded) {
             return;
         }
+        // Only try once, when loading fails cards are not rendered at all.
+        atlasLoaded = true;
 
-        try {
-            JsonDataStorage atlas = new JsonDataStorage();
-            JsonDataAccessor.readJsonFromFile(atlas, plugin.getResource("taskimages/item_atlas.json"));
-            DataStorage blocks = atlas.getStorage("blocks");
-            DataStorage items = atlas.getStorage("items");
-
-            if (items == null || blocks == null) {
-                ConsoleMessenger.bug("Error loading task images from atlas.", this);
-                return;
-            }
-
-            addImagesFromAtlas(plugin.getResource("taskimages/blocks.png"), blocks, false);
-            addImagesFromAtlas(plugin.getResource("taskimages/items.png"), items, true);
-
-            InputStream overlayStream = plugin.getResource("taskimages/completed_stamp.png");
-            if (overlayStream != null)
-                COMPLETED_OVERLAY = ImageIO.read(overlayStream);
-
-            InputStream backgroundStream = plugin.getResource("taskimages/card_background.png");
-            if (backgroundStream != null)
-                BACKGROUND = ImageIO.read(backgroundStream);
-
-            InputStream iconStream = plugin.getResource("taskimages/advancement_icon.png");
-            if (iconStream != null)
-                ADVANCEMENT_ICON = ImageIO.read(iconStream);
-
-            iconStream = plugin.getResource("taskimages/statistic_icon.png");
-            if (iconStream != null)
-                STATISTIC_ICON = ImageIO.read(iconStream);
+        InputStream atlasStream = plugin.getResource(TaskImageAtlas.RESOURCE_PATH);
+        if (atlasStream == null) {
+            ConsoleMessenger.bug("Could not find task image atlas " + TaskImageAtlas.RESOURCE_PATH, plugin);
+            return;
+        }
 
+        try {
+            atlas = TaskImageAtlas.read(atlasStream);
         } catch (IOException e) {
             ConsoleMessenger.error(e.getMessage());
+            return;
         }
 
+        COMPLETED_OVERLAY = atlas.getImage("bingoreloaded:completed_stamp");
+        BACKGROUND = atlas.getImage("bingoreloaded:card_background");
+        ADVANCEMENT_ICON = atlas.getImage("bingoreloaded:advancement_icon");
+        STATISTIC_ICON = atlas.getImage("bingoreloaded:statistic_icon");
+
         for (Material mat : Registry.MATERIAL.stream().toList()) {
             if (!mat.isItem() || mat.isAir()) continue;
 
-            if (!allItemImages.containsKey(mat.getKey())) {
+            if (!atlas.contains(mat.getKey().toString())) {
                 ConsoleMessenger.warn("No task image found for item " + mat.name());
             }
         }
 
-        ConsoleMessenger.log("Added " + allItemImages.size() + " item images for use in the map renderer.");
+        ConsoleMessenger.log("Loaded " + atlas.size() + " images for use in the map renderer.");
     }
 
-    private static void addImagesFromAtlas(InputStream atlas, DataStorage atlasInfo, boolean renderAsItems) throws IOException {
-        List<String> itemNames = atlasInfo.getList("names", TagDataType.STRING);
-        int rowCount = atlasInfo.getInt("rows", 1);
-        List<Integer> sizeVec = atlasInfo.getList("texture_size", TagDataType.INT);
-        int sizeX = sizeVec.get(0);
-        int sizeY = sizeVec.get(1);
-
-        BufferedImage image = ImageIO.read(atlas);
-
-        int index = 0;
-        for (String name : itemNames) {
-            NamespacedKey nameKey = NamespacedKey.minecraft(name);
-            BufferedImage subImage = image.getSubimage((index % rowCount) * sizeX, (index / rowCount) * sizeY, sizeX, sizeY);
-            index++;
-            allItemImages.put(nameKey, subImage);
-            if (renderAsItems) {
-                flatItems.add(nameKey);
-            }
+    /**
+     * @return map view that shows this card, taken from the map pool when first requested.
+     * All card items given out with this renderer show the same map, so the card only gets rendered once for all players of the team
+     * and the server sends each change to all of them as a single changed region of the map.
+     */
+    public MapView getMapView(World world) {
+        if (mapView != null) {
+            return mapView;
+        }
+
+        mapView = mapPool.acquire(world);
+        for (MapRenderer renderer : new ArrayList<>(mapView.getRenderers())) {
+            mapView.removeRenderer(renderer);
         }
+        mapView.addRenderer(this);
+        return mapView;
+    }
+
+    /**
+     * Return the map view of this card to the map pool, to be reused by the next game.
+     */
+    public void releaseMapView() {
+        if (mapView == null) {
+            return;
+        }
+        mapPool.release(mapView);
+        mapView = null;
     }
 
     @Override
     public void render(@NotNull MapView mapView, @NotNull MapCanvas mapCanvas, @NotNull Player player) {
-        int cardSize = card.size.size;
+        updateBuffer();
+
+        Integer drawnVersion = canvasVersions.get(mapCanvas);
+        if (drawnVersion != null && drawnVersion == version) {
+            return;
+        }
+
+        if (drawnVersion == null) {
+            buffer.copyTo(mapCanvas, 0, 0, MapPixelBuffer.SIZE, MapPixelBuffer.SIZE);
+        } else {
+            for (int i = 0; i < slotVersions.length; i++) {
+                if (slotVersions[i] > drawnVersion) {
+                    buffer.copyTo(mapCanvas, getSlotAreaX(i), getSlotAreaY(i), SLOT_AREA_SIZE, SLOT_AREA_SIZE);
+                }
+            }
+        }
+        canvasVersions.put(mapCanvas, version);
+    }
+
+    /**
+     * Redraw the slots of the buffer whose task has changed since they were last drawn.
+     * Only does work the first time it gets called each tick, since every map showing this card renders using the same buffer.
+     */
+    private void updateBuffer() {
+        loadAtlas(plugin);
+        if (atlas == null) {
+            return;
+        }
+
+        int currentTick = Bukkit.getCurrentTick();
+        if (currentTick == lastCheckedTick) {
+            return;
+        }
+        lastCheckedTick = currentTick;
 
         List<GameTask> tasks = card.getTasks();
-        int offsetFromTopLeft = (5 - cardSize) / 2;
+        List<Integer> dirtySlots = new ArrayList<>();
+        for (int i = 0; i < drawnTasks.length && i < tasks.size(); i++) {
+            GameTask task = tasks.get(i);
+            BingoTeam completedBy = task.isCompleted() ? task.getCompletedByTeam().orElse(null) : null;
+            if (drawnTasks[i] == task && drawnCompletedBy[i] == completedBy) {
+                continue;
+            }
+            drawnTasks[i] = task;
+            drawnCompletedBy[i] = completedBy;
+            dirtySlots.add(i);
+        }
+
+        if (dirtySlots.isEmpty()) {
+            return;
+        }
+        version++;
+
+        if (dirtySlots.size() == drawnTasks.length) {
+            buffer.resetClip();
+            drawArea(tasks, 0, 0, MapPixelBuffer.SIZE, MapPixelBuffer.SIZE);
+        } else {
+            for (int slot : dirtySlots) {
+                int x = getSlotAreaX(slot);
+                int y = getSlotAreaY(slot);
+                buffer.setClip(x, y, SLOT_AREA_SIZE, SLOT_AREA_SIZE);
+                drawArea(tasks, x, y, SLOT_AREA_SIZE, SLOT_AREA_SIZE);
+            }
+            buffer.resetClip();
+        }
 
+        for (int slot : dirtySlots) {
+            slotVersions[slot] = version;
+        }
+    }
+
+    /**
+     * Draw the background and all the slots that overlap the given area, expects the clip of the buffer to be set to this area.
+     */
+    private void drawArea(List<GameTask> tasks, int x, int y, int width, int height) {
         if (BACKGROUND != null)
-            mapCanvas.drawImage(0, 0, BACKGROUND);
+            buffer.drawTile(0, 0, BACKGROUND);
 
-        for (int y = 0; y < cardSize; y++) {
-            for (int x = 0; x < cardSize; x++) {
-                GameTask task = tasks.get(y * cardSize + x);
-                drawTaskOnGrid(mapCanvas, task, x + offsetFromTopLeft, y + offsetFromTopLeft, stampOffsets.get(y * cardSize + x));
+        int cardSize = card.size.size;
+        int offsetFromTopLeft = (5 - cardSize) / 2;
+        for (int i = 0; i < drawnTasks.length && i < tasks.size(); i++) {
+            int slotX = getSlotAreaX(i);
+            int slotY = getSlotAreaY(i);
+            if (slotX >= x + width || slotY >= y + height || slotX + SLOT_AREA_SIZE <= x || slotY + SLOT_AREA_SIZE <= y) {
+                continue;
             }
+            drawTaskOnGrid(tasks.get(i), i % cardSize + offsetFromTopLeft, i / cardSize + offsetFromTopLeft, stampOffsets.get(i));
         }
     }
 
-    public void drawTaskOnGrid(MapCanvas canvas, GameTask task, int gridX, int gridY, Vector stampOffset) {
+    private int getSlotAreaX(int slot) {
+        int cardSize = card.size.size;
+        return (slot % cardSize + (5 - cardSize) / 2) * 24 + SLOT_AREA_OFFSET;
+    }
+
+    private int getSlotAreaY(int slot) {
+        int cardSize = card.size.size;
+        return (slot / cardSize + (5 - cardSize) / 2) * 24 + SLOT_AREA_OFFSET;
+    }
+
+    private void drawTaskOnGrid(GameTask task, int gridX, int gridY, Vector stampOffset) {
         Material mat = task.data.getDisplayMaterial(false);
         int amount = task.data.getRequiredAmount();
-        NamespacedKey key = mat.getKey();
+        String key = mat.getKey().toString();
 
         int extraOffset = 1;
-        if (!allItemImages.containsKey(key)) {
+        MapImageTile image = atlas.getImage(key);
+        if (image == null) {
             return;
         }
 
-        if (flatItems.contains(key)) {
+        if (atlas.isFlat(key)) {
             extraOffset = 4;
         }
 
-        drawImageAlphaScissor(canvas, gridX * 24 + 4 + extraOffset, gridY * 24 + 4 + extraOffset, allItemImages.get(mat.getKey()), null);
+        buffer.drawTile(gridX * 24 + 4 + extraOffset, gridY * 24 + 4 + extraOffset, image);
 
         if (amount > 1) {
-            drawTaskAmount(canvas, gridX, gridY, amount);
+            drawTaskAmount(gridX, gridY, amount);
         }
 
         if (task.data instanceof AdvancementTask) {
-            drawImageAlphaScissor(canvas, gridX * 24 + 2, gridY * 24 + 15, ADVANCEMENT_ICON, null);
+            buffer.drawTile(gridX * 24 + 2, gridY * 24 + 15, ADVANCEMENT_ICON);
         } else if (task.data instanceof StatisticTask) {
-            drawImageAlphaScissor(canvas, gridX * 24 + 2, gridY * 24 + 15, STATISTIC_ICON, null);
+            buffer.drawTile(gridX * 24 + 2, gridY * 24 + 15, STATISTIC_ICON);
         }
 
         if (task.isCompleted() && task.getCompletedByTeam().isPresent() && COMPLETED_OVERLAY != null) {
             TextColor color = task.getCompletedByTeam().get().getColor();
-            drawImageAlphaScissor(canvas, gridX * 24 + 4 + stampOffset.getBlockX(), gridY * 24 + 4 + stampOffset.getBlockY(), COMPLETED_OVERLAY, color);
+            MapImageTile overlay = tintedOverlays.computeIfAbsent(color, c -> COMPLETED_OVERLAY.tinted(MapColorTable.createTint(c)));
+            buffer.drawTile(gridX * 24 + 4 + stampOffset.getBlockX(), gridY * 24 + 4 + stampOffset.getBlockY(), overlay);
         }
     }
 
-    private void drawTaskAmount(MapCanvas canvas, int gridX, int gridY, int amount) {
+    private void drawTaskAmount(int gridX, int gridY, int amount) {
         String amountString = "" + amount;
 
         int xStartOffset = 0;
         if (amountString.length() == 1) {
             xStartOffset = 6;
         }
-        canvas.drawText(gridX * 24 + 17 + xStartOffset, gridY * 24 + 21, MinecraftFont.Font, "§47;" + amount); // dark gray shadow
-        canvas.drawText(gridX * 24 + 16 + xStartOffset, gridY * 24 + 20, MinecraftFont.Font, "§58;" + amount); // white foreground
-    }
-
-    private void drawImageAlphaScissor(MapCanvas canvas, int x, int y, BufferedImage image, @Nullable TextColor modulate)
-    {
-        if (modulate == null) {
-            for (int x2 = 0; x2 < image.getWidth(null); ++x2) {
-                for (int y2 = 0; y2 < image.getHeight(null); ++y2) {
-                    int alpha = (image.getRGB(x2, y2) >> 24) & 0xff;
-                    if (alpha == 0)
-                    {
-                        continue;
-                    }
-                    canvas.setPixelColor(x + x2, y + y2, new Color(image.getRGB(x2, y2)));
-                }
-            }
-
-            return;
-        }
-
-        Color modulateColor = new Color(modulate.red(), modulate.green(), modulate.blue());
-        for (int x2 = 0; x2 < image.getWidth(null); ++x2) {
-            for (int y2 = 0; y2 < image.getHeight(null); ++y2) {
-                int alpha = (image.getRGB(x2, y2) >> 24) & 0xff;
-                if (alpha == 0)
-                {
-                    continue;
-                }
-                canvas.setPixelColor(x + x2, y + y2, ExtraMath.modulateColor(new Color(image.getRGB(x2, y2)), modulateColor));
-            }
-        }
+        buffer.drawText(gridX * 24 + 17 + xStartOffset, gridY * 24 + 21, MinecraftFont.Font, amountString, TEXT_SHADOW_COLOR); // dark gray shadow
+        buffer.drawText(gridX * 24 + 16 + xStartOffset, gridY * 24 + 20, MinecraftFont.Font, amountString, TEXT_COLOR); // white foreground
     }
 
     private Vector getStampOffset(int minOffset, int maxOffset) {
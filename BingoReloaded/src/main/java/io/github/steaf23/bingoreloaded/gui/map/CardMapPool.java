@@ -0,0 +1,63 @@
+package io.github.steaf23.bingoreloaded.gui.map;
+
+import io.github.steaf23.bingoreloaded.data.CardMapData;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.map.MapView;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Maps that card renderers can draw on, reused by every game instead of creating a new map each time a card is handed out.
+ * Maps only get created when all existing maps are in use, their ids are saved so they can be reused after a restart.
+ */
+public class CardMapPool
+{
+    private final CardMapData data;
+    private final List<Integer> allMapIds;
+    private final Deque<Integer> freeMapIds;
+
+    public CardMapPool() {
+        this.data = new CardMapData();
+        this.allMapIds = new ArrayList<>(data.getMapIds());
+        this.freeMapIds = new ArrayDeque<>(allMapIds);
+    }
+
+    /**
+     * @return map that is not used by any other renderer, the caller is responsible for setting its renderers.
+     */
+    @SuppressWarnings("deprecation") // Map ids are the only way to find maps again after a restart.
+    public MapView acquire(World world) {
+        while (!freeMapIds.isEmpty()) {
+            int mapId = freeMapIds.poll();
+            MapView view = Bukkit.getMap(mapId);
+            if (view != null) {
+                return view;
+            }
+
+            // The map data has been removed from the world, so this map cannot be reused.
+            allMapIds.remove((Integer) mapId);
+            data.setMapIds(allMapIds);
+        }
+
+        MapView view = Bukkit.createMap(world);
+        allMapIds.add(view.getId());
+        data.setMapIds(allMapIds);
+        return view;
+    }
+
+    /**
+     * Make map available to be acquired again. The map keeps its renderers until it gets acquired by the next renderer,
+     * so the map items that are still around keep showing the card of the game that used it last.
+     */
+    @SuppressWarnings("deprecation")
+    public void release(MapView view) {
+        Integer mapId = view.getId();
+        if (allMapIds.contains(mapId) && !freeMapIds.contains(mapId)) {
+            freeMapIds.add(mapId);
+        }
+    }
+}
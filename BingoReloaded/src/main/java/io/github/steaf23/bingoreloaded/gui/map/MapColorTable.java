@@ -0,0 +1,58 @@
+package io.github.steaf23.bingoreloaded.gui.map;
+
+import net.kyori.adventure.text.format.TextColor;
+import org.bukkit.map.MapPalette;
+
+import java.awt.*;
+
+/**
+ * Conversion of colors to map palette colors.
+ * Images are converted using the palette of the compiled task image atlas, so only the colors in that palette need to be matched.
+ */
+@SuppressWarnings("deprecation") // Map colors are stored as raw palette bytes on purpose.
+public final class MapColorTable
+{
+    public static final byte TRANSPARENT = 0;
+
+    private MapColorTable() {
+    }
+
+    /**
+     * @param argb color to match, fully transparent colors are matched to the transparent map color.
+     */
+    public static byte matchColor(int argb) {
+        if (((argb >> 24) & 0xff) == 0) {
+            return TRANSPARENT;
+        }
+        return MapPalette.matchColor((argb >> 16) & 0xff, (argb >> 8) & 0xff, argb & 0xff);
+    }
+
+    /**
+     * @return table that maps each map color onto the map color closest to it after being multiplied by the given color.
+     */
+    public static byte[] createTint(TextColor tint) {
+        byte[] table = new byte[256];
+        for (int i = 0; i < table.length; i++) {
+            byte color = (byte) i;
+            if (color == TRANSPARENT) {
+                continue;
+            }
+
+            Color original;
+            try {
+                original = MapPalette.getColor(color);
+            } catch (IndexOutOfBoundsException e) {
+                // Not every byte is a valid map color.
+                continue;
+            }
+            if (original.getAlpha() == 0) {
+                continue;
+            }
+            table[i] = MapPalette.matchColor(
+                    original.getRed() * tint.red() / 255,
+                    original.getGreen() * tint.green() / 255,
+                    original.getBlue() * tint.blue() / 255);
+        }
+        return table;
+    }
+}
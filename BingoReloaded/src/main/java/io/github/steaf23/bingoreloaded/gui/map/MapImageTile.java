@@ -0,0 +1,20 @@
+package io.github.steaf23.bingoreloaded.gui.map;
+
+/**
+ * Image converted to map palette colors, ready to be copied into a MapPixelBuffer.
+ * @param pixels map colors of the image row by row, where MapColorTable.TRANSPARENT pixels are not drawn.
+ */
+public record MapImageTile(int width, int height, byte[] pixels)
+{
+    /**
+     * @param tint table created by MapColorTable.createTint.
+     * @return copy of this tile with every color replaced by its entry in the tint table.
+     */
+    public MapImageTile tinted(byte[] tint) {
+        byte[] tintedPixels = new byte[pixels.length];
+        for (int i = 0; i < pixels.length; i++) {
+            tintedPixels[i] = tint[pixels[i] & 0xff];
+        }
+        return new MapImageTile(width, height, tintedPixels);
+    }
+}
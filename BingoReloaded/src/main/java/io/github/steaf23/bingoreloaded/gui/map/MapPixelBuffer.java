@@ -0,0 +1,109 @@
+package io.github.steaf23.bingoreloaded.gui.map;
+
+import org.bukkit.map.MapCanvas;
+import org.bukkit.map.MapFont;
+
+/**
+ * Map sized image of map palette colors, that can be drawn to once and then copied to any number of map canvases.
+ * All drawing is limited to the clip rectangle, which can be used to redraw a part of the image.
+ */
+public class MapPixelBuffer
+{
+    public static final int SIZE = 128;
+
+    private final byte[] pixels;
+    private int clipMinX;
+    private int clipMinY;
+    private int clipMaxX;
+    private int clipMaxY;
+
+    public MapPixelBuffer() {
+        this.pixels = new byte[SIZE * SIZE];
+        resetClip();
+    }
+
+    public void setClip(int x, int y, int width, int height) {
+        clipMinX = Math.max(0, x);
+        clipMinY = Math.max(0, y);
+        clipMaxX = Math.min(SIZE, x + width);
+        clipMaxY = Math.min(SIZE, y + height);
+    }
+
+    public void resetClip() {
+        setClip(0, 0, SIZE, SIZE);
+    }
+
+    public void setPixel(int x, int y, byte color) {
+        if (x < clipMinX || y < clipMinY || x >= clipMaxX || y >= clipMaxY) {
+            return;
+        }
+        pixels[y * SIZE + x] = color;
+    }
+
+    public byte getPixel(int x, int y) {
+        return pixels[y * SIZE + x];
+    }
+
+    /**
+     * Copy tile into the buffer, leaving out its transparent pixels.
+     */
+    public void drawTile(int x, int y, MapImageTile tile) {
+        // Only visit the part of the tile that is inside the clip rectangle.
+        int minX = Math.max(0, clipMinX - x);
+        int minY = Math.max(0, clipMinY - y);
+        int maxX = Math.min(tile.width(), clipMaxX - x);
+        int maxY = Math.min(tile.height(), clipMaxY - y);
+        byte[] tilePixels = tile.pixels();
+        for (int y2 = minY; y2 < maxY; ++y2) {
+            int tileRow = y2 * tile.width();
+            int bufferRow = (y + y2) * SIZE + x;
+            for (int x2 = minX; x2 < maxX; ++x2) {
+                byte color = tilePixels[tileRow + x2];
+                if (color != MapColorTable.TRANSPARENT) {
+                    pixels[bufferRow + x2] = color;
+                }
+            }
+        }
+    }
+
+    /**
+     * Draw text the same way MapCanvas.drawText does, but in a single color.
+     */
+    public void drawText(int x, int y, MapFont font, String text, byte color) {
+        int xStart = x;
+        for (char ch : text.toCharArray()) {
+            if (ch == '\n') {
+                x = xStart;
+                y += font.getHeight() + 1;
+                continue;
+            }
+
+            MapFont.CharacterSprite sprite = font.getChar(ch);
+            if (sprite == null) {
+                continue;
+            }
+            for (int row = 0; row < font.getHeight(); ++row) {
+                for (int col = 0; col < sprite.getWidth(); ++col) {
+                    if (sprite.get(row, col)) {
+                        setPixel(x + col, y + row, color);
+                    }
+                }
+            }
+            x += sprite.getWidth() + 1;
+        }
+    }
+
+    /**
+     * Copy the given area of this buffer onto the canvas.
+     */
+    @SuppressWarnings("deprecation") // Map colors are copied as raw palette bytes on purpose.
+    public void copyTo(MapCanvas canvas, int x, int y, int width, int height) {
+        int maxX = Math.min(SIZE, x + width);
+        int maxY = Math.min(SIZE, y + height);
+        for (int y2 = Math.max(0, y); y2 < maxY; ++y2) {
+            for (int x2 = Math.max(0, x); x2 < maxX; ++x2) {
+                canvas.setPixel(x2, y2, pixels[y2 * SIZE + x2]);
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.steaf23.bingoreloaded.gui.map;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Images used by the card map renderer, read from the atlas that gets compiled at build time by the compileTaskImageAtlas gradle task.
+ * The atlas consists of a color palette and an image for each key, where every pixel is an index into the palette.
+ * Images are only converted to map colors when they are first requested.
+ */
+public class TaskImageAtlas
+{
+    public static final String RESOURCE_PATH = "taskimages/task_images.bin";
+
+    private static final int FORMAT_ID = 0x42524941; // BRIA
+    private static final int FORMAT_VERSION = 1;
+    private static final int FLAG_FLAT = 1;
+
+    // Sorted, so images can be found using a binary search.
+    private final String[] keys;
+    private final byte[] flags;
+    private final int[] widths;
+    private final int[] heights;
+    private final short[][] paletteIndices;
+    private final byte[] paletteColors;
+    private final MapImageTile[] tiles;
+
+    private TaskImageAtlas(String[] keys, byte[] flags, int[] widths, int[] heights, short[][] paletteIndices, byte[] paletteColors) {
+        this.keys = keys;
+        this.flags = flags;
+        this.widths = widths;
+        this.heights = heights;
+        this.paletteIndices = paletteIndices;
+        this.paletteColors = paletteColors;
+        this.tiles = new MapImageTile[keys.length];
+    }
+
+    public static TaskImageAtlas read(InputStream input) throws IOException {
+        try (DataInputStream data = new DataInputStream(new GZIPInputStream(input))) {
+            if (data.readInt() != FORMAT_ID) {
+                throw new IOException("Task image atlas has an invalid format");
+            }
+            int version = data.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Task image atlas has unsupported version " + version);
+            }
+
+            // Palette index 0 is always transparent.
+            int paletteSize = data.readInt();
+            byte[] paletteColors = new byte[paletteSize];
+            for (int i = 0; i < paletteSize; i++) {
+                int rgb = data.readInt();
+                paletteColors[i] = i == 0 ? MapColorTable.TRANSPARENT : MapColorTable.matchColor(rgb);
+            }
+
+            int imageCount = data.readInt();
+            String[] keys = new String[imageCount];
+            byte[] flags = new byte[imageCount];
+            int[] widths = new int[imageCount];
+            int[] heights = new int[imageCount];
+            short[][] paletteIndices = new short[imageCount][];
+            for (int i = 0; i < imageCount; i++) {
+                keys[i] = data.readUTF();
+                flags[i] = data.readByte();
+                widths[i] = data.readUnsignedShort();
+                heights[i] = data.readUnsignedShort();
+                paletteIndices[i] = new short[widths[i] * heights[i]];
+                for (int p = 0; p < paletteIndices[i].length; p++) {
+                    paletteIndices[i][p] = data.readShort();
+                }
+            }
+            return new TaskImageAtlas(keys, flags, widths, heights, paletteIndices, paletteColors);
+        }
+    }
+
+    /**
+     * @param key namespaced key of the image, i.e. minecraft:stone or bingoreloaded:card_background.
+     */
+    public @Nullable MapImageTile getImage(String key) {
+        int index = Arrays.binarySearch(keys, key);
+        if (index < 0) {
+            return null;
+        }
+
+        if (tiles[index] == null) {
+            short[] indices = paletteIndices[index];
+            byte[] pixels = new byte[indices.length];
+            for (int i = 0; i < indices.length; i++) {
+                pixels[i] = paletteColors[indices[i] & 0xffff];
+            }
+            tiles[index] = new MapImageTile(widths[index], heights[index], pixels);
+            // The indices are no longer needed once the image has been converted.
+            paletteIndices[index] = null;
+        }
+        return tiles[index];
+    }
+
+    public boolean contains(String key) {
+        return Arrays.binarySearch(keys, key) >= 0;
+    }
+
+    /**
+     * @return true if the image is of an item rendered flat, instead of a block.
+     */
+    public boolean isFlat(String key) {
+        int index = Arrays.binarySearch(keys, key);
+        return index >= 0 && (flags[index] & FLAG_FLAT) != 0;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+}
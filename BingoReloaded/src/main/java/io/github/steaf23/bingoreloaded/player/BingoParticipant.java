@@ -9,7 +9,7 @@ import io.github.steaf23.bingoreloaded.tasks.GameTask;
 import net.kyori.adventure.audience.ForwardingAudience;
 import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
-import org.bukkit.map.MapRenderer;
+import org.bukkit.map.MapView;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -46,7 +46,7 @@ public interface BingoParticipant extends ForwardingAudience.Single
         return getTeam().getCard();
     }
 
-    void giveBingoCard(int cardSlot, @Nullable MapRenderer renderer);
+    void giveBingoCard(int cardSlot, @Nullable MapView cardMap);
     void giveEffects(EnumSet<EffectOptionFlags> effects, int gracePeriod);
     void takeEffects(boolean force);
     void giveKit(PlayerKit kit);
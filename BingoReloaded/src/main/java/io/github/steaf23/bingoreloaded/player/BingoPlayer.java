@@ -29,7 +29,6 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.MapMeta;
-import org.bukkit.map.MapRenderer;
 import org.bukkit.map.MapView;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.potion.PotionEffect;
@@ -37,7 +36,6 @@ import org.bukkit.potion.PotionEffectType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.Optional;
@@ -125,13 +123,13 @@ public class BingoPlayer implements BingoParticipant
     }
 
     @Override
-    public void giveBingoCard(int cardSlot, @Nullable MapRenderer mapRenderer) {
+    public void giveBingoCard(int cardSlot, @Nullable MapView cardMap) {
         if (sessionPlayer().isEmpty())
             return;
 
         Player player = sessionPlayer().get();
 
-        ItemTemplate cardItem = mapRenderer == null ? PlayerKit.CARD_ITEM : PlayerKit.CARD_ITEM_RENDERABLE;
+        ItemTemplate cardItem = cardMap == null ? PlayerKit.CARD_ITEM : PlayerKit.CARD_ITEM_RENDERABLE;
 
         BingoReloaded.scheduleTask(task -> {
             for (ItemStack itemStack : player.getInventory()) {
@@ -142,18 +140,12 @@ public class BingoPlayer implements BingoParticipant
             }
             ItemStack existingItem = player.getInventory().getItem(cardSlot);
             ItemStack card;
-            if (mapRenderer == null) {
+            if (cardMap == null) {
                 card = cardItem.buildItem();
             } else {
                 ItemTemplate map = cardItem.copy().addMetaModifier(meta -> {
                     if (meta instanceof MapMeta mapMeta) {
-                        MapView view = Bukkit.createMap(player.getWorld());
-                        for (MapRenderer renderer : new ArrayList<>(view.getRenderers())) {
-                            view.removeRenderer(renderer);
-                        }
-
-                        view.addRenderer(mapRenderer);
-                        mapMeta.setMapView(view);
+                        mapMeta.setMapView(cardMap);
                         return mapMeta;
                     }
                     ConsoleMessenger.bug("No valid map item found to render texture to.", this);
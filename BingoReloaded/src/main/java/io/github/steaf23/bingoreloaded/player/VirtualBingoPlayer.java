@@ -9,7 +9,7 @@ import io.github.steaf23.playerdisplay.PlayerDisplay;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
-import org.bukkit.map.MapRenderer;
+import org.bukkit.map.MapView;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -79,7 +79,7 @@ public class VirtualBingoPlayer implements BingoParticipant
     }
 
     @Override
-    public void giveBingoCard(int cardSlot, @Nullable MapRenderer renderer) {
+    public void giveBingoCard(int cardSlot, @Nullable MapView cardMap) {
     }
 
     @Override
@@ -44,6 +44,9 @@ public class GameTask
 
     public final TaskDisplayMode displayMode;
 
+    // Item for the current display state of this task (incomplete, completed or voided), cleared when that state changes.
+    private ItemTemplate cachedItem;
+
     public GameTask(TaskData data, TaskDisplayMode displayMode)
     {
         this.data = data;
@@ -52,6 +55,7 @@ public class GameTask
         this.voided = false;
         this.completedAt = -1L;
         this.displayMode = displayMode;
+        this.cachedItem = null;
     }
 
     public static GameTask simpleItemTask(Material material, int count) {
@@ -60,10 +64,11 @@ public class GameTask
 
     public void setVoided(boolean value)
     {
-        if (isCompleted())
+        if (isCompleted() || voided == value)
             return;
 
         voided = value;
+        cachedItem = null;
     }
 
     public boolean isVoided()
@@ -76,7 +81,34 @@ public class GameTask
         return completedBy != null || completedByTeam != null;
     }
 
+    /**
+     * Build the item stack of this task ahead of time, so building the item stack of toItem() only has to clone it.
+     * Has to be called on the main thread, since building item stacks is not thread-safe.
+     */
+    public void prepareItem()
+    {
+        getCachedItem().buildItem();
+    }
+
+    /**
+     * @return copy of the item for the current state of this task.
+     * Unchanged copies share the item stack built from them, which is cached until the state of this task changes.
+     */
     public ItemTemplate toItem()
+    {
+        return getCachedItem().copy();
+    }
+
+    private ItemTemplate getCachedItem()
+    {
+        if (cachedItem == null)
+        {
+            cachedItem = createItem().cacheBuiltItem();
+        }
+        return cachedItem;
+    }
+
+    private ItemTemplate createItem()
     {
         ItemTemplate item;
         // Step 1: create the item and put the new name, description and material on it.
@@ -189,6 +221,7 @@ public class GameTask
         completedByTeam = participant.getTeam();
         completedBy = participant;
         completedAt = gameTime;
+        cachedItem = null;
         return true;
     }
 
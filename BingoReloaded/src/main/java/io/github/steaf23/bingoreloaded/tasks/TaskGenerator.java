@@ -11,9 +11,12 @@ import org.bukkit.Material;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class TaskGenerator
 {
@@ -28,8 +31,105 @@ public class TaskGenerator
 
     private static final TaskData DEFAULT_TASK = new ItemTask(Material.DIRT, 1);
 
+    private record CompiledCardKey(String cardName, boolean includeAdvancements, boolean includeStatistics) {}
+
+    /**
+     * Everything about a card that does not depend on the seed, so it only has to be read from the card and list data once.
+     * @param tasksPerList tasks of each non-empty list, in the order the lists get shuffled in.
+     * @param ticketList tickets for the minimum amount of tasks of each list, sorted by that minimum.
+     * @param overflowList tickets for the tasks of each list above its minimum.
+     * @param allTasks tasks of all lists of the card.
+     */
+    public record CompiledCard(Map<String, List<TaskData>> tasksPerList, List<String> ticketList, List<String> overflowList, List<TaskData> allTasks) {}
+
+    private static final Map<CompiledCardKey, CompiledCard> COMPILED_CARDS = new ConcurrentHashMap<>();
+    private static final AtomicInteger COMPILED_CARDS_VERSION = new AtomicInteger();
+
+    /**
+     * Has to be called whenever a card or task list gets edited, so the next card will be generated from the new data.
+     */
+    public static void invalidateCompiledCards() {
+        COMPILED_CARDS_VERSION.incrementAndGet();
+        COMPILED_CARDS.clear();
+    }
+
+    /**
+     * @return number that changes every time the compiled cards are invalidated.
+     */
+    public static int getCompiledCardsVersion() {
+        return COMPILED_CARDS_VERSION.get();
+    }
+
+    /**
+     * Has to be called on the main thread, since the card gets compiled from the card and list data if it is not cached.
+     * @return immutable snapshot of the card used by these settings, to generate card tasks from without reading any card or list data.
+     */
+    public static CompiledCard getCompiledCard(GeneratorSettings settings) {
+        return getCompiledCard(settings.cardName, settings.includeStatistics, settings.includeAdvancements);
+    }
+
+    /**
+     * @return all tasks of every list in the given card, which can contain duplicates if lists share tasks.
+     */
+    public static List<TaskData> getAllTasks(String cardName, boolean includeStatistics, boolean includeAdvancements) {
+        return getCompiledCard(cardName, includeStatistics, includeAdvancements).allTasks();
+    }
+
+    private static CompiledCard getCompiledCard(String cardName, boolean includeStatistics, boolean includeAdvancements) {
+        return COMPILED_CARDS.computeIfAbsent(new CompiledCardKey(cardName, includeAdvancements, includeStatistics),
+                key -> compileCard(key.cardName(), key.includeStatistics(), key.includeAdvancements()));
+    }
+
+    private static CompiledCard compileCard(String cardName, boolean includeStatistics, boolean includeAdvancements) {
+        BingoCardData cardsData = new BingoCardData();
+        TaskListData listsData = cardsData.lists();
+
+        Map<String, List<TaskData>> taskMap = new LinkedHashMap<>();
+        List<TaskData> allTasks = new ArrayList<>();
+        for (String listName : cardsData.getListNames(cardName)) {
+            List<TaskData> tasks = List.copyOf(listsData.getTasks(listName, includeStatistics, includeAdvancements));
+            if (!tasks.isEmpty()) {
+                taskMap.put(listName, tasks);
+                allTasks.addAll(tasks);
+            }
+        }
+
+        List<String> ticketList = new ArrayList<>();
+        List<String> overflowList = new ArrayList<>();
+        if (!taskMap.isEmpty()) {
+            for (String listName : cardsData.getListsSortedByMin(cardName)) {
+                if (!taskMap.containsKey(listName)) {
+                    continue;
+                }
+
+                int proportionalMin = Math.max(1, cardsData.getListMin(cardName, listName));
+                for (int i = 0; i < proportionalMin; i++) {
+                    ticketList.add(listName);
+                }
+            }
+            for (String listName : cardsData.getListNames(cardName)) {
+                int listMin = cardsData.getListMin(cardName, listName);
+                int listMax = cardsData.getListMax(cardName, listName);
+
+                if (!taskMap.containsKey(listName)) {
+                    continue;
+                }
+
+                int proportionalMin = Math.max(1, listMin);
+                int proportionalMax = listMax;
+
+                for (int i = 0; i < proportionalMax - proportionalMin; i++) {
+                    overflowList.add(listName);
+                }
+            }
+        }
+
+        return new CompiledCard(Collections.unmodifiableMap(taskMap), List.copyOf(ticketList), List.copyOf(overflowList), List.copyOf(allTasks));
+    }
+
     /**
      * Generating a bingo card has a few steps:
+     * - Get the compiled card, which is only read from the card and list data after they have been edited
      * - Create task shuffler
      * - Create a ticketlist. This list contains a list name for each task on the card,
      * based on how often an item from that list should appear on the card.
@@ -38,8 +138,14 @@ public class TaskGenerator
      * If the final task count is lower than the amount of spaces available on the card, it will be filled up using default tasks.
      */
     public static List<GameTask> generateCardTasks(GeneratorSettings settings) {
-        BingoCardData cardsData = new BingoCardData();
-        TaskListData listsData = cardsData.lists();
+        return generateCardTasks(settings, getCompiledCard(settings));
+    }
+
+    /**
+     * Generate the tasks of a card from a card compiled earlier using getCompiledCard.
+     * Only uses the compiled card, so this can be called from a worker thread.
+     */
+    public static List<GameTask> generateCardTasks(GeneratorSettings settings, CompiledCard compiledCard) {
         // Create shuffler
         Random shuffler;
         if (settings.seed == 0) {
@@ -49,42 +155,15 @@ public class TaskGenerator
         }
 
         Map<String, List<TaskData>> taskMap = new HashMap<>();
-        for (String listName : cardsData.getListNames(settings.cardName)) {
-            List<TaskData> tasks = new ArrayList<>(listsData.getTasks(listName, settings.includeStatistics, settings.includeAdvancements));
-            if (!tasks.isEmpty()) {
-                Collections.shuffle(tasks, shuffler);
-                taskMap.put(listName, tasks);
-            }
-        }
+        compiledCard.tasksPerList().forEach((listName, compiledTasks) -> {
+            List<TaskData> tasks = new ArrayList<>(compiledTasks);
+            Collections.shuffle(tasks, shuffler);
+            taskMap.put(listName, tasks);
+        });
 
         // Create ticketList
-        List<String> ticketList = new ArrayList<>();
-        for (String listName : cardsData.getListsSortedByMin(settings.cardName)) {
-            if (!taskMap.containsKey(listName)) {
-                continue;
-            }
-
-            int proportionalMin = Math.max(1, cardsData.getListMin(settings.cardName, listName));
-            for (int i = 0; i < proportionalMin; i++) {
-                ticketList.add(listName);
-            }
-        }
-        List<String> overflowList = new ArrayList<>();
-        for (String listName : cardsData.getListNames(settings.cardName)) {
-            int listMin = cardsData.getListMin(settings.cardName, listName);
-            int listMax = cardsData.getListMax(settings.cardName, listName);
-
-            if (!taskMap.containsKey(listName)) {
-                continue;
-            }
-
-            int proportionalMin = Math.max(1, listMin);
-            int proportionalMax = listMax;
-
-            for (int i = 0; i < proportionalMax - proportionalMin; i++) {
-                overflowList.add(listName);
-            }
-        }
+        List<String> ticketList = new ArrayList<>(compiledCard.ticketList());
+        List<String> overflowList = new ArrayList<>(compiledCard.overflowList());
 
         int fullCardSize = settings.size.fullCardSize;
 
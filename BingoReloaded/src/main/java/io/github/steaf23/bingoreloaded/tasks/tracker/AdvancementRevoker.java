@@ -0,0 +1,117 @@
+package io.github.steaf23.bingoreloaded.tasks.tracker;
+
+import io.github.steaf23.bingoreloaded.BingoReloaded;
+import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
+import io.github.steaf23.playerdisplay.util.DebugLogger;
+import org.bukkit.Bukkit;
+import org.bukkit.advancement.Advancement;
+import org.bukkit.advancement.AdvancementProgress;
+import org.bukkit.entity.Player;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Revokes advancements from players in small slices spread over multiple ticks,
+ * so that resetting advancement progress at the start of a game does not freeze the server.
+ */
+public class AdvancementRevoker
+{
+    private record Revocation(UUID playerId, Advancement advancement)
+    {
+    }
+
+    // Amount of advancements to revoke each tick, taken from the queue of all players together.
+    private static final int REVOCATIONS_PER_TICK = 50;
+
+    private final Set<Revocation> queue;
+    private int queuedCount;
+    private int revokedCount;
+    private boolean running;
+    private boolean stopped;
+
+    public AdvancementRevoker() {
+        this.queue = new LinkedHashSet<>();
+        this.queuedCount = 0;
+        this.revokedCount = 0;
+        this.running = false;
+        this.stopped = false;
+    }
+
+    /**
+     * Queue the advancement to be revoked from the player, slices will be revoked every tick until the queue is empty.
+     */
+    public void queue(Player player, Advancement advancement) {
+        if (stopped || !queue.add(new Revocation(player.getUniqueId(), advancement))) {
+            return;
+        }
+
+        queuedCount++;
+        if (!running) {
+            running = true;
+            ConsoleMessenger.log("Revoking advancements from participants...");
+            BingoReloaded.scheduleTask(task -> revokeNextSlice());
+        }
+    }
+
+    /**
+     * Revoke all advancements that are still queued right now.
+     */
+    public void finish() {
+        revoke(queue.size());
+    }
+
+    /**
+     * Clear the queue without revoking the remaining advancements.
+     */
+    public void stop() {
+        stopped = true;
+        queue.clear();
+    }
+
+    /**
+     * @return fraction of queued advancements that have been revoked, between 0 and 1.
+     */
+    public double getProgress() {
+        return queuedCount == 0 ? 1.0 : (double) revokedCount / queuedCount;
+    }
+
+    public static void revokeAdvancement(Player player, Advancement advancement) {
+        AdvancementProgress progress = player.getAdvancementProgress(advancement);
+        progress.getAwardedCriteria().forEach(progress::revokeCriteria);
+    }
+
+    private void revokeNextSlice() {
+        if (stopped) {
+            running = false;
+            return;
+        }
+
+        revoke(REVOCATIONS_PER_TICK);
+        DebugLogger.addLog("Revoked " + revokedCount + "/" + queuedCount + " advancements (" + (int) (getProgress() * 100) + "%)");
+
+        if (queue.isEmpty()) {
+            running = false;
+            ConsoleMessenger.log("Revoked " + revokedCount + " advancements from participants");
+            return;
+        }
+        BingoReloaded.scheduleTask(task -> revokeNextSlice(), 1);
+    }
+
+    private void revoke(int amount) {
+        Iterator<Revocation> it = queue.iterator();
+        for (int i = 0; i < amount && it.hasNext(); i++) {
+            Revocation revocation = it.next();
+            it.remove();
+            revokedCount++;
+
+            // Players that left in the meantime will get their progress revoked when the task is tracked again.
+            Player player = Bukkit.getPlayer(revocation.playerId());
+            if (player != null) {
+                revokeAdvancement(player, revocation.advancement());
+            }
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package io.github.steaf23.bingoreloaded.tasks.tracker;
+
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps track of the amount of items of each type players are carrying (in their inventory and on their cursor).
+ * Counts are updated using the deltas that can be derived from inventory events,
+ * and only recounted from the actual inventory when an event does not tell exactly how many items were moved.
+ * Counts can drift when items are changed without an event (by commands for example), so they should only be used to find out
+ * which item types might complete a task and should be checked using a periodic full rescan.
+ */
+public class ItemCountTracker
+{
+    private final Map<UUID, Map<Material, Integer>> counts;
+    // Item types that could not be derived from an event, these will be recounted from the player's inventory.
+    private final Map<UUID, Set<Material>> pendingRecounts;
+
+    public ItemCountTracker() {
+        this.counts = new HashMap<>();
+        this.pendingRecounts = new HashMap<>();
+    }
+
+    public int getCount(UUID playerId, Material material) {
+        Map<Material, Integer> playerCounts = counts.get(playerId);
+        if (playerCounts == null) {
+            return 0;
+        }
+        return playerCounts.getOrDefault(material, 0);
+    }
+
+    public void addCount(UUID playerId, Material material, int delta) {
+        if (delta == 0 || material.isAir()) {
+            return;
+        }
+        counts.computeIfAbsent(playerId, id -> new EnumMap<>(Material.class))
+                .merge(material, delta, (current, d) -> Math.max(0, current + d));
+    }
+
+    /**
+     * Count all items the player is carrying, discarding any previous counts.
+     */
+    public void rescan(Player player) {
+        Map<Material, Integer> playerCounts = new EnumMap<>(Material.class);
+        for (ItemStack stack : player.getInventory().getContents()) {
+            if (!isEmpty(stack)) {
+                playerCounts.merge(stack.getType(), stack.getAmount(), Integer::sum);
+            }
+        }
+        ItemStack cursor = player.getItemOnCursor();
+        if (!isEmpty(cursor)) {
+            playerCounts.merge(cursor.getType(), cursor.getAmount(), Integer::sum);
+        }
+        counts.put(player.getUniqueId(), playerCounts);
+        pendingRecounts.remove(player.getUniqueId());
+    }
+
+    /**
+     * Count the items of a single type the player is carrying.
+     * @return the new count of the given item type.
+     */
+    public int recount(Player player, Material material) {
+        int count = 0;
+        for (ItemStack stack : player.getInventory().getContents()) {
+            if (stack != null && stack.getType() == material) {
+                count += stack.getAmount();
+            }
+        }
+        ItemStack cursor = player.getItemOnCursor();
+        if (cursor.getType() == material) {
+            count += cursor.getAmount();
+        }
+        counts.computeIfAbsent(player.getUniqueId(), id -> new EnumMap<>(Material.class))
+                .put(material, count);
+        return count;
+    }
+
+    public void markForRecount(UUID playerId, Material material) {
+        if (material.isAir()) {
+            return;
+        }
+        pendingRecounts.computeIfAbsent(playerId, id -> EnumSet.noneOf(Material.class)).add(material);
+    }
+
+    /**
+     * Recount all item types that were marked for recounting for the given player.
+     */
+    public void recountPending(Player player) {
+        Set<Material> pending = pendingRecounts.remove(player.getUniqueId());
+        if (pending == null) {
+            return;
+        }
+        for (Material material : pending) {
+            recount(player, material);
+        }
+    }
+
+    /**
+     * Apply the changes a click will make to the items the player is carrying.
+     * Should be called before the click is applied to the inventory.
+     * @return All item types of which the count has (possibly) changed.
+     */
+    public Set<Material> applyClick(Player player, InventoryClickEvent event) {
+        // Clicks outside the window drop items, which are handled by the drop event instead.
+        if (event.getClickedInventory() == null) {
+            return Set.of();
+        }
+
+        UUID playerId = player.getUniqueId();
+        ItemStack current = event.getCurrentItem();
+        ItemStack cursor = event.getCursor();
+        boolean containerOpen = event.getView().getTopInventory().getType() != InventoryType.CRAFTING;
+        Set<Material> changed = EnumSet.noneOf(Material.class);
+
+        if (event.getRawSlot() >= event.getView().getTopInventory().getSize()) {
+            // Moving items around in the player's own inventory does not change the amount they are carrying,
+            // unless items get moved into or collected from an open container.
+            switch (event.getAction()) {
+                case MOVE_TO_OTHER_INVENTORY -> {
+                    if (containerOpen) {
+                        recountLater(changed, playerId, current);
+                    }
+                }
+                case COLLECT_TO_CURSOR -> {
+                    if (containerOpen) {
+                        recountLater(changed, playerId, cursor);
+                    }
+                }
+                default -> {}
+            }
+            return changed;
+        }
+
+        switch (event.getAction()) {
+            case PICKUP_ALL -> changeCount(changed, playerId, current, current == null ? 0 : current.getAmount());
+            case PICKUP_HALF -> changeCount(changed, playerId, current, current == null ? 0 : (current.getAmount() + 1) / 2);
+            case PICKUP_ONE -> changeCount(changed, playerId, current, 1);
+            case PLACE_ALL -> changeCount(changed, playerId, cursor, -cursor.getAmount());
+            case PLACE_ONE -> changeCount(changed, playerId, cursor, -1);
+            case SWAP_WITH_CURSOR -> {
+                changeCount(changed, playerId, current, current == null ? 0 : current.getAmount());
+                changeCount(changed, playerId, cursor, -cursor.getAmount());
+            }
+            case HOTBAR_SWAP -> {
+                PlayerInventory inventory = player.getInventory();
+                ItemStack hotbarItem = event.getHotbarButton() == -1 ? inventory.getItemInOffHand() : inventory.getItem(event.getHotbarButton());
+                changeCount(changed, playerId, current, current == null ? 0 : current.getAmount());
+                changeCount(changed, playerId, hotbarItem, hotbarItem == null ? 0 : -hotbarItem.getAmount());
+            }
+            // Dropped items don't end up in the player's inventory, and cloning is only possible in creative mode.
+            case NOTHING, CLONE_STACK, DROP_ALL_CURSOR, DROP_ONE_CURSOR, DROP_ALL_SLOT, DROP_ONE_SLOT -> {}
+            // The amount of items moved cannot be determined beforehand, like when shift clicking into a full inventory.
+            default -> {
+                recountLater(changed, playerId, current);
+                recountLater(changed, playerId, cursor);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * @return All item types of which the count has (possibly) changed.
+     */
+    public Set<Material> applyDrag(Player player, InventoryDragEvent event) {
+        int topSize = event.getView().getTopInventory().getSize();
+        for (int rawSlot : event.getRawSlots()) {
+            // Items dragged into the top inventory are no longer carried by the player.
+            if (rawSlot < topSize) {
+                Set<Material> changed = EnumSet.noneOf(Material.class);
+                recountLater(changed, player.getUniqueId(), event.getOldCursor());
+                return changed;
+            }
+        }
+        return Set.of();
+    }
+
+    /**
+     * Take items of the given type from the player, starting with the preferred stack (which does not have to be in the player's inventory)
+     * @return the amount of items that could be removed.
+     */
+    public int consumeItems(Player player, Material material, int amount, @Nullable ItemStack preferredStack) {
+        int left = amount;
+        if (preferredStack != null && preferredStack.getType() == material) {
+            int taken = Math.min(left, preferredStack.getAmount());
+            preferredStack.setAmount(preferredStack.getAmount() - taken);
+            left -= taken;
+        }
+
+        int takenFromPlayer = 0;
+        PlayerInventory inventory = player.getInventory();
+        ItemStack[] contents = inventory.getContents();
+        for (int i = 0; i < contents.length && left > 0; i++) {
+            ItemStack stack = contents[i];
+            if (stack == null || stack.getType() != material) {
+                continue;
+            }
+            int taken = Math.min(left, stack.getAmount());
+            stack.setAmount(stack.getAmount() - taken);
+            inventory.setItem(i, stack);
+            left -= taken;
+            takenFromPlayer += taken;
+        }
+
+        ItemStack cursor = player.getItemOnCursor();
+        if (left > 0 && cursor.getType() == material) {
+            int taken = Math.min(left, cursor.getAmount());
+            cursor.setAmount(cursor.getAmount() - taken);
+            player.setItemOnCursor(cursor);
+            left -= taken;
+            takenFromPlayer += taken;
+        }
+
+        addCount(player.getUniqueId(), material, -takenFromPlayer);
+        return amount - left;
+    }
+
+    public void removePlayer(UUID playerId) {
+        counts.remove(playerId);
+        pendingRecounts.remove(playerId);
+    }
+
+    public void reset() {
+        counts.clear();
+        pendingRecounts.clear();
+    }
+
+    private void changeCount(Set<Material> changed, UUID playerId, @Nullable ItemStack stack, int delta) {
+        if (isEmpty(stack)) {
+            return;
+        }
+        addCount(playerId, stack.getType(), delta);
+        changed.add(stack.getType());
+    }
+
+    private void recountLater(Set<Material> changed, UUID playerId, @Nullable ItemStack stack) {
+        if (isEmpty(stack)) {
+            return;
+        }
+        markForRecount(playerId, stack.getType());
+        changed.add(stack.getType());
+    }
+
+    private static boolean isEmpty(@Nullable ItemStack stack) {
+        return stack == null || stack.getType().isAir() || stack.getAmount() <= 0;
+    }
+}
@@ -13,6 +13,8 @@ public class StatisticProgress
     private int progressLeft;
 
     private int previousGlobalProgress;
+    // Upper bound of the progress made since the statistic was last read from the player, for statistics that are updated periodically.
+    private int unconfirmedProgress;
 
     public StatisticProgress(BingoStatistic statistic, BingoParticipant player, int targetScore)
     {
@@ -25,6 +27,7 @@ public class StatisticProgress
         }
 
         this.previousGlobalProgress = 0;
+        this.unconfirmedProgress = 0;
 
 //        setPlayerTotalScore(0);
     }
@@ -44,6 +47,24 @@ public class StatisticProgress
 
         int newProgress = getParticipantTotalScore();
         setProgress(newProgress);
+        unconfirmedProgress = 0;
+    }
+
+    /**
+     * Add to the estimated progress made since the last periodic update, using the amount of movement or time that was observed.
+     * The estimate should never be lower than the actual progress made.
+     */
+    public void addUnconfirmedProgress(int amount)
+    {
+        unconfirmedProgress += amount;
+    }
+
+    /**
+     * @return true if enough progress might have been made to complete this statistic, meaning the actual statistic should be read.
+     */
+    public boolean mightBeDone()
+    {
+        return unconfirmedProgress >= progressLeft;
     }
 
     public void setProgress(int newProgress)
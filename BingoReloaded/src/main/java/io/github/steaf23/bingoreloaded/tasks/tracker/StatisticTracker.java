@@ -6,54 +6,158 @@ import io.github.steaf23.bingoreloaded.player.BingoPlayer;
 import io.github.steaf23.bingoreloaded.player.team.BingoTeam;
 import io.github.steaf23.bingoreloaded.tasks.BingoStatistic;
 import io.github.steaf23.bingoreloaded.tasks.data.StatisticTask;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Statistic;
+import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 import org.bukkit.event.player.PlayerStatisticIncrementEvent;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 public class StatisticTracker
 {
-    private final List<StatisticProgress> statistics;
+    // Statistics that are being tracked, by their statistic and then by their entity or material component (if any).
+    // Used to find the tracked key of an incoming statistic without creating a new one.
+    private final Map<Statistic, Map<Enum<?>, BingoStatistic>> statisticKeys;
+    private final Map<BingoStatistic, Map<UUID, StatisticProgress>> statistics;
+    // Progress of statistics that don't get updated with the increment event, by participant.
+    // These are only read from the player when the observed movement or time could have completed them.
+    private final Map<UUID, List<StatisticProgress>> travelStatistics;
+    private final Map<UUID, List<StatisticProgress>> timeStatistics;
+    private int secondsUntilFullUpdate;
+
+    // Amount of seconds after which all periodic statistics are read from the players, to correct any difference with the estimated progress.
+    private static final int FULL_UPDATE_INTERVAL = 60;
+    private static final int TICKS_PER_SECOND = 20;
 
     public StatisticTracker()
     {
-        this.statistics = new ArrayList<>();
+        this.statisticKeys = new EnumMap<>(Statistic.class);
+        this.statistics = new HashMap<>();
+        this.travelStatistics = new HashMap<>();
+        this.timeStatistics = new HashMap<>();
+        this.secondsUntilFullUpdate = FULL_UPDATE_INTERVAL;
     }
 
     public double getProgressLeft(BingoPlayer player, BingoStatistic statistic)
     {
-        List<StatisticProgress> statProgress = statistics.stream().filter(progress ->
-                progress.getParticipant().equals(player) && progress.getStatistic().equals(statistic)).toList();
-
-        if (statProgress.size() != 1)
+        StatisticProgress progress = getProgress(statistic, player.getId());
+        if (progress == null)
             return Double.MAX_VALUE;
 
-        return statProgress.getFirst().getProgressLeft();
+        return progress.getProgressLeft();
     }
 
     public void addStatistic(StatisticTask statTask, BingoParticipant participant) {
-        if (statistics.stream().anyMatch(progress ->
-                progress.getParticipant().equals(participant) && progress.getStatistic().equals(statTask.statistic())))
+        BingoStatistic statistic = statTask.statistic();
+        if (getProgress(statistic, participant.getId()) != null)
             return;
 
-        setPlayerStatistic(statTask.statistic(), participant, 0);
-        statistics.add(new StatisticProgress(statTask.statistic(), participant, statTask.count()));
+        setPlayerStatistic(statistic, participant, 0);
+        statisticKeys.computeIfAbsent(statistic.stat(), s -> new HashMap<>())
+                .putIfAbsent(getStatisticComponent(statistic.entityType(), statistic.materialType()), statistic);
+        StatisticProgress progress = new StatisticProgress(statistic, participant, statTask.count());
+        statistics.computeIfAbsent(statistic, s -> new HashMap<>())
+                .put(participant.getId(), progress);
+
+        if (!statistic.getsUpdatedWithIncrementEvent())
+        {
+            Map<UUID, List<StatisticProgress>> periodic = statistic.getCategory() == BingoStatistic.StatisticCategory.TRAVEL ?
+                    travelStatistics : timeStatistics;
+            periodic.computeIfAbsent(participant.getId(), id -> new ArrayList<>()).add(progress);
+        }
     }
 
     public void removeStatistic(StatisticTask task) {
-        statistics.removeIf(progress -> progress.getStatistic().equals(task.statistic()));
+        BingoStatistic statistic = task.statistic();
+        Map<UUID, StatisticProgress> progressOfStatistic = statistics.remove(statistic);
+        if (progressOfStatistic != null)
+        {
+            progressOfStatistic.values().forEach(this::removePeriodicProgress);
+        }
+
+        Map<Enum<?>, BingoStatistic> keys = statisticKeys.get(statistic.stat());
+        if (keys == null)
+            return;
+
+        keys.remove(getStatisticComponent(statistic.entityType(), statistic.materialType()));
+        if (keys.isEmpty())
+            statisticKeys.remove(statistic.stat());
     }
 
+    /**
+     * Should be called every second, reads periodic statistics of which the elapsed time might have completed them,
+     * and all periodic statistics every FULL_UPDATE_INTERVAL seconds.
+     */
     public void updateProgress()
     {
-        statistics.forEach(StatisticProgress::updatePeriodicProgress);
-        statistics.removeIf(StatisticProgress::done);
+        secondsUntilFullUpdate--;
+        boolean fullUpdate = secondsUntilFullUpdate <= 0;
+        if (fullUpdate)
+            secondsUntilFullUpdate = FULL_UPDATE_INTERVAL;
+
+        List<StatisticProgress> toUpdate = new ArrayList<>();
+        for (List<StatisticProgress> progressOfPlayer : timeStatistics.values())
+        {
+            for (StatisticProgress progress : progressOfPlayer)
+            {
+                // Time statistics cannot increase by more than one per tick.
+                progress.addUnconfirmedProgress(TICKS_PER_SECOND);
+                if (fullUpdate || progress.mightBeDone())
+                    toUpdate.add(progress);
+            }
+        }
+
+        if (fullUpdate)
+            travelStatistics.values().forEach(toUpdate::addAll);
+
+        updatePeriodicProgress(toUpdate);
+    }
+
+    /**
+     * Estimate the progress of the player's travel statistics using the distance they moved,
+     * only reading the actual statistics when the distance could have completed them.
+     */
+    public void handlePlayerMoved(Player player, Location from, Location to)
+    {
+        List<StatisticProgress> progressOfPlayer = travelStatistics.get(player.getUniqueId());
+        if (progressOfPlayer == null || from.getWorld() != to.getWorld())
+            return;
+
+        // Travel statistics are measured in centimeters, round up to never estimate less than the actual distance.
+        int distance = (int)Math.ceil(from.distance(to) * 100.0);
+        if (distance == 0)
+            return;
+
+        List<StatisticProgress> toUpdate = new ArrayList<>();
+        for (StatisticProgress progress : progressOfPlayer)
+        {
+            progress.addUnconfirmedProgress(distance);
+            if (progress.mightBeDone())
+                toUpdate.add(progress);
+        }
+        updatePeriodicProgress(toUpdate);
+    }
+
+    public boolean hasTravelStatistics()
+    {
+        return !travelStatistics.isEmpty();
     }
 
     public void reset()
     {
+        statisticKeys.clear();
         statistics.clear();
+        travelStatistics.clear();
+        timeStatistics.clear();
+        secondsUntilFullUpdate = FULL_UPDATE_INTERVAL;
     }
 
     public void handleStatisticIncrement(final PlayerStatisticIncrementEvent event, final BingoGame game)
@@ -61,6 +165,11 @@ public class StatisticTracker
         if (game == null)
             return;
 
+        // Find the tracked statistic first, most increments are for statistics nobody has to complete.
+        BingoStatistic stat = findTrackedStatistic(event.getStatistic(), event.getEntityType(), event.getMaterial());
+        if (stat == null)
+            return;
+
         BingoParticipant player = game.getTeamManager().getPlayerAsParticipant(event.getPlayer());
         if (player == null || player.sessionPlayer().isEmpty())
             return;
@@ -69,16 +178,17 @@ public class StatisticTracker
         if (team == null)
             return;
 
-        BingoStatistic stat = new BingoStatistic(event.getStatistic(), event.getEntityType(), event.getMaterial());
+        Map<UUID, StatisticProgress> progressOfStatistic = statistics.get(stat);
+        if (progressOfStatistic == null)
+            return;
 
-        List<StatisticProgress> matchingStatistic = statistics.stream().filter(progress ->
-                progress.getParticipant().equals(player) && progress.getStatistic().equals(stat)).toList();
-        if (matchingStatistic.size() == 1)
-        {
-            matchingStatistic.getFirst().setProgress(event.getNewValue());
-        }
+        StatisticProgress progress = progressOfStatistic.get(player.getId());
+        if (progress == null)
+            return;
 
-        statistics.removeIf(StatisticProgress::done);
+        progress.setProgress(event.getNewValue());
+        if (progress.done())
+            progressOfStatistic.remove(player.getId());
     }
 
     public void setPlayerStatistic(BingoStatistic statistic, BingoParticipant player, int value)
@@ -101,4 +211,58 @@ public class StatisticTracker
             gamePlayer.setStatistic(statistic.stat(), value);
         }
     }
+
+    private void updatePeriodicProgress(List<StatisticProgress> toUpdate)
+    {
+        // Completing a statistic can change the tracked statistics, so the progress to update is collected beforehand.
+        for (StatisticProgress progress : toUpdate)
+        {
+            progress.updatePeriodicProgress();
+            if (progress.done())
+            {
+                Map<UUID, StatisticProgress> progressOfStatistic = statistics.get(progress.getStatistic());
+                if (progressOfStatistic != null)
+                    progressOfStatistic.remove(progress.getParticipant().getId());
+                removePeriodicProgress(progress);
+            }
+        }
+    }
+
+    private void removePeriodicProgress(StatisticProgress progress)
+    {
+        UUID participantId = progress.getParticipant().getId();
+        for (Map<UUID, List<StatisticProgress>> periodic : List.of(travelStatistics, timeStatistics))
+        {
+            List<StatisticProgress> progressOfPlayer = periodic.get(participantId);
+            if (progressOfPlayer == null)
+                continue;
+
+            progressOfPlayer.remove(progress);
+            if (progressOfPlayer.isEmpty())
+                periodic.remove(participantId);
+        }
+    }
+
+    private @Nullable StatisticProgress getProgress(BingoStatistic statistic, UUID participantId)
+    {
+        Map<UUID, StatisticProgress> progressOfStatistic = statistics.get(statistic);
+        if (progressOfStatistic == null)
+            return null;
+
+        return progressOfStatistic.get(participantId);
+    }
+
+    private @Nullable BingoStatistic findTrackedStatistic(Statistic statistic, @Nullable EntityType entity, @Nullable Material material)
+    {
+        Map<Enum<?>, BingoStatistic> keys = statisticKeys.get(statistic);
+        if (keys == null)
+            return null;
+
+        return keys.get(getStatisticComponent(entity, material));
+    }
+
+    private static @Nullable Enum<?> getStatisticComponent(@Nullable EntityType entity, @Nullable Material material)
+    {
+        return entity != null ? entity : material;
+    }
 }
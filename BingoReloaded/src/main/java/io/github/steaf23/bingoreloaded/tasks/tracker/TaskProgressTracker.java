@@ -6,6 +6,7 @@ import io.github.steaf23.bingoreloaded.data.config.BingoOptions;
 import io.github.steaf23.bingoreloaded.event.BingoDeathmatchTaskCompletedEvent;
 import io.github.steaf23.bingoreloaded.event.BingoStatisticCompletedEvent;
 import io.github.steaf23.bingoreloaded.event.BingoTaskProgressCompletedEvent;
+import io.github.steaf23.bingoreloaded.event.core.EventSubscriptions;
 import io.github.steaf23.bingoreloaded.gameloop.phase.BingoGame;
 import io.github.steaf23.bingoreloaded.player.BingoParticipant;
 import io.github.steaf23.bingoreloaded.tasks.BingoStatistic;
@@ -18,36 +19,44 @@ import io.github.steaf23.playerdisplay.util.ConsoleMessenger;
 import io.github.steaf23.playerdisplay.util.DebugLogger;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
-import org.bukkit.advancement.AdvancementProgress;
+import org.bukkit.NamespacedKey;
+import org.bukkit.advancement.Advancement;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.entity.EntityPickupItemEvent;
-import org.bukkit.event.inventory.ClickType;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.InventoryMoveItemEvent;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.event.player.PlayerAdvancementDoneEvent;
 import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerStatisticIncrementEvent;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.BiFunction;
+import java.util.UUID;
 
 public class TaskProgressTracker
 {
     public static class TaskProgress
     {
+        private final GameTask task;
         private final BingoParticipant participant;
         private final int progressStart;
         private int progressLeft;
 
-        public TaskProgress(BingoParticipant participant, int progressAmount) {
+        public TaskProgress(GameTask task, BingoParticipant participant, int progressAmount) {
+            this.task = task;
             this.participant = participant;
             this.progressStart = progressAmount;
             this.progressLeft = progressStart;
@@ -66,36 +75,82 @@ public class TaskProgressTracker
         }
     }
 
+    /**
+     * Lookup table of task progress that is still being tracked, by a task specific key (like an item type) and then by participant.
+     */
+    private static class ProgressIndex<K>
+    {
+        private final Map<K, Map<UUID, List<TaskProgress>>> entries = new HashMap<>();
+
+        public void add(K key, TaskProgress progress) {
+            entries.computeIfAbsent(key, k -> new HashMap<>())
+                    .computeIfAbsent(progress.participant.getId(), id -> new ArrayList<>())
+                    .add(progress);
+        }
+
+        public List<TaskProgress> get(K key, UUID participantId) {
+            Map<UUID, List<TaskProgress>> progressOfKey = entries.get(key);
+            if (progressOfKey == null) {
+                return List.of();
+            }
+            return progressOfKey.getOrDefault(participantId, List.of());
+        }
+
+        public Set<K> keys() {
+            return Set.copyOf(entries.keySet());
+        }
+
+        public boolean isEmpty() {
+            return entries.isEmpty();
+        }
+
+        public void remove(K key, TaskProgress progress) {
+            Map<UUID, List<TaskProgress>> progressOfKey = entries.get(key);
+            if (progressOfKey == null) {
+                return;
+            }
+            UUID participantId = progress.participant.getId();
+            List<TaskProgress> participantProgress = progressOfKey.get(participantId);
+            if (participantProgress == null) {
+                return;
+            }
+            participantProgress.remove(progress);
+            if (participantProgress.isEmpty()) {
+                progressOfKey.remove(participantId);
+            }
+            if (progressOfKey.isEmpty()) {
+                entries.remove(key);
+            }
+        }
+    }
+
     private final BingoGame game;
     private final Map<GameTask, List<TaskProgress>> progressMap;
+    private final ProgressIndex<Material> itemProgressIndex;
+    private final ProgressIndex<NamespacedKey> advancementProgressIndex;
+    private final ProgressIndex<BingoStatistic> statisticProgressIndex;
     private final StatisticTracker statisticTracker;
+    private final ItemCountTracker itemCounts;
+    private final AdvancementRevoker advancementRevoker;
+    private final EventSubscriptions eventSubscriptions;
+    private final Set<EventSubscriptions.Topic> subscriptions;
 
     public TaskProgressTracker(BingoGame game) {
         this.game = game;
         this.progressMap = new HashMap<>();
+        this.itemProgressIndex = new ProgressIndex<>();
+        this.advancementProgressIndex = new ProgressIndex<>();
+        this.statisticProgressIndex = new ProgressIndex<>();
         this.statisticTracker = new StatisticTracker();
-        if (!game.getConfig().getOptionValue(BingoOptions.DISABLE_ADVANCEMENTS)) {
-            ConsoleMessenger.log("Revoking all advancements from participants...");
-            DebugLogger.addLog("Revoking all advancements");
-
-            List<Player> allPlayers = new ArrayList<>();
-
-            for (BingoParticipant participant : game.getTeamManager().getParticipants()) {
-                 participant.sessionPlayer().ifPresent(allPlayers::add);
-            }
-
-            Bukkit.advancementIterator().forEachRemaining(advancement -> {
-                for (Player p : allPlayers) {
-                    AdvancementProgress progress = p.getAdvancementProgress(advancement);
-                    for (String criteria : advancement.getCriteria()) {
-                        progress.revokeCriteria(criteria);
-                    }
-                }
-            });
-        }
+        this.itemCounts = new ItemCountTracker();
+        this.advancementRevoker = new AdvancementRevoker();
+        this.eventSubscriptions = BingoReloaded.getInstance().getGameManager().getEventSubscriptions();
+        this.subscriptions = EnumSet.noneOf(EventSubscriptions.Topic.class);
     }
 
     public void startTrackingTask(GameTask task) {
+        // make sure no stale progress of this task remains indexed when it gets tracked again.
+        stopTrackingTask(task);
         progressMap.put(task, new ArrayList<>());
         for (BingoParticipant participant : game.getTeamManager().getParticipants()) {
             // only track progress if the participant has to complete the task.
@@ -112,9 +167,13 @@ public class TaskProgressTracker
                 // revoke advancement from player
                 AdvancementTask advancementTask = (AdvancementTask) task.data;
                 participant.sessionPlayer().ifPresent(player -> {
-                    AdvancementProgress progress = player.getAdvancementProgress(advancementTask.advancement());
-                    progress.getAwardedCriteria().forEach(progress::revokeCriteria);
-                    DebugLogger.addLog("Revoking advancement " + advancementTask.advancement().getKey().getKey() + " for player " + player.getName());
+                    // Before the game starts, advancements are revoked during the starting countdown instead.
+                    if (game.hasStarted()) {
+                        AdvancementRevoker.revokeAdvancement(player, advancementTask.advancement());
+                        DebugLogger.addLog("Revoking advancement " + advancementTask.advancement().getKey().getKey() + " for player " + player.getName());
+                    } else {
+                        advancementRevoker.queue(player, advancementTask.advancement());
+                    }
                 });
             } else if (type == TaskData.TaskType.STATISTIC) {
                 StatisticTask statisticTask = (StatisticTask) task.data;
@@ -130,7 +189,74 @@ public class TaskProgressTracker
             // No progress to reset for item tasks
 
             // add task to progress tracker
-            progressMap.get(task).add(new TaskProgress(participant, finalCount));
+            TaskProgress progress = new TaskProgress(task, participant, finalCount);
+            progressMap.get(task).add(progress);
+            switch (type) {
+                case ITEM -> itemProgressIndex.add(((ItemTask) task.data).material(), progress);
+                case ADVANCEMENT -> advancementProgressIndex.add(((AdvancementTask) task.data).advancement().getKey(), progress);
+                case STATISTIC -> statisticProgressIndex.add(((StatisticTask) task.data).statistic(), progress);
+            }
+        }
+        updateSubscriptions();
+    }
+
+    /**
+     * Queue the advancements configured to be revoked in addition to the ones on the card, for all participants.
+     */
+    public void revokeExtraAdvancements(List<String> advancementKeys) {
+        List<Advancement> advancements = new ArrayList<>();
+        for (String key : advancementKeys) {
+            if (key.equals("*")) {
+                Bukkit.advancementIterator().forEachRemaining(advancements::add);
+                continue;
+            }
+
+            NamespacedKey namespacedKey = NamespacedKey.fromString(key);
+            Advancement advancement = namespacedKey == null ? null : Bukkit.getAdvancement(namespacedKey);
+            if (advancement == null) {
+                ConsoleMessenger.warn("Cannot revoke unknown advancement '" + key + "'");
+                continue;
+            }
+            advancements.add(advancement);
+        }
+
+        for (BingoParticipant participant : game.getTeamManager().getParticipants()) {
+            participant.sessionPlayer().ifPresent(player -> advancements.forEach(advancement -> advancementRevoker.queue(player, advancement)));
+        }
+    }
+
+    /**
+     * Revoke all advancements still waiting to be revoked, should be called when the game actually starts.
+     */
+    public void finishRevokingAdvancements() {
+        advancementRevoker.finish();
+    }
+
+    /**
+     * Stop tracking progress for the rest of the game, should be called when the game ends.
+     */
+    public void stop() {
+        advancementRevoker.stop();
+        itemCounts.reset();
+        subscriptions.forEach(eventSubscriptions::unsubscribe);
+        subscriptions.clear();
+    }
+
+    /**
+     * Only listen to the events needed to complete the tasks that are currently being tracked.
+     */
+    public void updateSubscriptions() {
+        setSubscribed(EventSubscriptions.Topic.ITEM_TASKS, !itemProgressIndex.isEmpty() || game.getDeathMatchTask() != null);
+        setSubscribed(EventSubscriptions.Topic.ADVANCEMENT_TASKS, !advancementProgressIndex.isEmpty());
+        setSubscribed(EventSubscriptions.Topic.STATISTIC_TASKS, !statisticProgressIndex.isEmpty());
+        setSubscribed(EventSubscriptions.Topic.PLAYER_MOVEMENT, statisticTracker.hasTravelStatistics());
+    }
+
+    private void setSubscribed(EventSubscriptions.Topic topic, boolean subscribed) {
+        if (subscribed && subscriptions.add(topic)) {
+            eventSubscriptions.subscribe(topic);
+        } else if (!subscribed && subscriptions.remove(topic)) {
+            eventSubscriptions.unsubscribe(topic);
         }
     }
 
@@ -146,20 +272,18 @@ public class TaskProgressTracker
         if (!event.getAdvancement().getKey().getKey().startsWith("recipes"))
             DebugLogger.addLog("Advancement " + event.getAdvancement().getKey().getKey() + " completed by " + event.getPlayer().getName());
 
-        updateProgressFromEvent(participant, (task, progress) -> {
-            if (task.taskType() != TaskData.TaskType.ADVANCEMENT) {
-                return false;
-            }
-            AdvancementTask data = (AdvancementTask) task.data;
-
-            if (!data.advancement().getKey().equals(event.getAdvancement().getKey())) {
-                return false;
-            }
-
+        Set<GameTask> tasksToRemove = new HashSet<>();
+        for (TaskProgress progress : advancementProgressIndex.get(event.getAdvancement().getKey(), participant.getId())) {
             progress.addProgress(1);
             DebugLogger.addLog("Completed task " + event.getAdvancement().getKey().getKey() + " completed by player " + participant.getName());
-            return tryCompleteTask(task, progress);
-        });
+            if (tryCompleteTask(progress.task, progress)) {
+                tasksToRemove.add(progress.task);
+            }
+        }
+
+        // Completing the task completes it for the entire team (or everyone in case of a shared card),
+        // so all pending progress of teammates gets dropped together with it.
+        tasksToRemove.forEach(this::stopTrackingTask);
     }
 
     public void handleBingoStatisticCompleted(final BingoStatisticCompletedEvent event) {
@@ -171,101 +295,96 @@ public class TaskProgressTracker
         if (game.getDeathMatchTask() != null)
             return;
 
-        updateProgressFromEvent(participant, (task, progress) -> {
-            if (task.taskType() != TaskData.TaskType.STATISTIC) {
-                return false;
-            }
-            BingoStatistic statistic = event.getStatistic();
-            StatisticTask data = (StatisticTask) task.data;
-
-            if (!data.statistic().equals(statistic)) {
-                return false;
+        Set<GameTask> tasksToRemove = new HashSet<>();
+        for (TaskProgress progress : statisticProgressIndex.get(event.getStatistic(), participant.getId())) {
+            progress.setProgress(progress.task.data.getRequiredAmount());
+            if (tryCompleteTask(progress.task, progress)) {
+                tasksToRemove.add(progress.task);
             }
+        }
 
-            progress.setProgress(data.getRequiredAmount());
-            return tryCompleteTask(task, progress);
-        });
+        tasksToRemove.forEach(this::stopTrackingTask);
     }
 
     public void handlePlayerStatIncrement(final PlayerStatisticIncrementEvent event) {
         statisticTracker.handleStatisticIncrement(event, game);
     }
 
-    private ItemStack completeItemSlot(ItemStack item, BingoParticipant participant) {
-        if (participant == null || participant.getTeam() == null) {
-            return item;
+    public void handlePlayerMove(final PlayerMoveEvent event) {
+        statisticTracker.handlePlayerMoved(event.getPlayer(), event.getFrom(), event.getTo());
+    }
+
+    public void handleVehicleMove(final VehicleMoveEvent event) {
+        for (Entity passenger : event.getVehicle().getPassengers()) {
+            if (passenger instanceof Player player) {
+                statisticTracker.handlePlayerMoved(player, event.getFrom(), event.getTo());
+            }
         }
+    }
 
-        if (participant.getTeam().outOfTheGame) {
-            return item;
+    /**
+     * Complete item tasks of the given type for the participant using the amount of items they are carrying.
+     * @param extraStack stack of items that is not (yet) in the player's inventory but should also count towards the task,
+     *                   like an item that is being picked up. This stack is the first to be consumed when task items get removed.
+     */
+    private void completeItemCount(BingoParticipant participant, Player player, Material material, @Nullable ItemStack extraStack) {
+        if (participant.getTeam() == null || participant.getTeam().outOfTheGame) {
+            return;
         }
 
+        int extraAmount = extraStack != null && extraStack.getType() == material ? extraStack.getAmount() : 0;
+
         GameTask deathMatchTask = game.getDeathMatchTask();
         if (deathMatchTask != null) {
-            if (item.getType().equals(deathMatchTask.material())) {
+            // Counts are only estimates, so make sure the player actually has the item before ending the game.
+            if (material.equals(deathMatchTask.material())
+                    && itemCounts.getCount(player.getUniqueId(), material) + extraAmount > 0
+                    && itemCounts.recount(player, material) + extraAmount > 0) {
                 deathMatchTask.complete(participant, game.getGameTime());
                 var slotEvent = new BingoDeathmatchTaskCompletedEvent(participant.getSession(), deathMatchTask);
                 Bukkit.getPluginManager().callEvent(slotEvent);
             }
-            return item;
+            return;
         }
 
-        Set<GameTask> tasksToRemove = new HashSet<>();
-        for (GameTask task : progressMap.keySet()) {
-            for (TaskProgress progress : progressMap.get(task)) {
-                if (!progress.participant.equals(participant)) {
-                    continue;
-                }
+        List<TaskProgress> participantProgress = itemProgressIndex.get(material, participant.getId());
+        if (participantProgress.isEmpty()) {
+            return;
+        }
 
-                if (task.taskType() != TaskData.TaskType.ITEM) {
-                    continue;
-                }
-                ItemTask data = (ItemTask) task.data;
-                if (!data.material().equals(item.getType()) || data.count() > item.getAmount()) {
-                    continue;
-                }
+        int count = itemCounts.getCount(player.getUniqueId(), material) + extraAmount;
+        boolean countVerified = false;
+        Set<GameTask> tasksToRemove = new HashSet<>();
+        for (TaskProgress progress : participantProgress) {
+            GameTask task = progress.task;
+            ItemTask data = (ItemTask) task.data;
+            if (data.count() > count) {
+                continue;
+            }
 
-                progress.setProgress(item.getAmount());
-                if (!tryCompleteTask(task, progress)) {
+            // Counts are only estimates, so make sure the player actually has the items before completing anything.
+            if (!countVerified) {
+                count = itemCounts.recount(player, material) + extraAmount;
+                countVerified = true;
+                if (data.count() > count) {
                     continue;
                 }
-
-                if (participant.sessionPlayer().isPresent()) {
-                    if (game.getConfig().getOptionValue(BingoOptions.REMOVE_TASK_ITEMS)) {
-                        item.setAmount(item.getAmount() - data.getRequiredAmount());
-                    }
-                    participant.sessionPlayer().get().updateInventory();
-                }
-
-                tasksToRemove.add(task);
             }
-        }
 
-        tasksToRemove.forEach(progressMap::remove);
-
-        updateProgressFromEvent(participant, (task, progress) -> {
-            if (task.taskType() != TaskData.TaskType.ITEM) {
-                return false;
-            }
-            ItemTask data = (ItemTask) task.data;
-            if (!data.material().equals(item.getType()) || data.count() > item.getAmount()) {
-                return false;
+            progress.setProgress(count);
+            if (!tryCompleteTask(task, progress)) {
+                continue;
             }
 
-            progress.setProgress(item.getAmount());
-            if (!tryCompleteTask(task, progress)) {
-                return false;
+            if (game.getConfig().getOptionValue(BingoOptions.REMOVE_TASK_ITEMS)) {
+                count -= itemCounts.consumeItems(player, material, data.getRequiredAmount(), extraStack);
             }
+            player.updateInventory();
 
-            participant.sessionPlayer().ifPresent(player -> {
-                if (game.getConfig().getOptionValue(BingoOptions.REMOVE_TASK_ITEMS)) {
-                    item.setAmount(item.getAmount() - data.getRequiredAmount());
-                }
-            });
+            tasksToRemove.add(task);
+        }
 
-            return true;
-        });
-        return item;
+        tasksToRemove.forEach(this::stopTrackingTask);
     }
 
     public void handleInventoryClicked(final InventoryClickEvent event) {
@@ -278,29 +397,51 @@ public class TaskProgressTracker
             return;
         }
 
-        // player tries to grab item in inventory normally
-        if (event.getSlotType() == InventoryType.SlotType.RESULT && event.getClick() != ClickType.SHIFT_LEFT) {
-            BingoReloaded.scheduleTask(task -> {
-                ItemStack resultStack = player.getItemOnCursor();
-                completeItemSlot(resultStack, participant);
-            });
+        Set<Material> changedItems = itemCounts.applyClick(player, event);
+        if (changedItems.isEmpty()) {
             return;
         }
 
+        // Wait for the click to be applied to the inventory before checking the new counts.
         BingoReloaded.scheduleTask(task -> {
-            // Other contents are updated, so we want to check the full inventory for task items..
-            for (ItemStack stack : player.getInventory().getContents()) {
-                if (stack != null) {
-                    completeItemSlot(stack, participant);
-                }
+            itemCounts.recountPending(player);
+            for (Material material : changedItems) {
+                completeItemCount(participant, player, material, null);
             }
-
-            // Sometimes item changes are not recorded instantly for some reason, so double check if the cursor item can be completed as a task.
-            ItemStack stack = player.getItemOnCursor();
-            completeItemSlot(stack, participant);
         });
     }
 
+    public void handleInventoryDragged(final InventoryDragEvent event) {
+        if (!(event.getWhoClicked() instanceof Player player)) {
+            return;
+        }
+
+        BingoParticipant participant = getValidParticipant(player);
+        if (participant == null) {
+            return;
+        }
+
+        // Dragging items can only lower the amount of items the player carries, so there is nothing to complete.
+        if (!itemCounts.applyDrag(player, event).isEmpty()) {
+            BingoReloaded.scheduleTask(task -> itemCounts.recountPending(player));
+        }
+    }
+
+    public void handleInventoryMoveItem(final InventoryMoveItemEvent event, Player player) {
+        BingoParticipant participant = getValidParticipant(player);
+        if (participant == null) {
+            return;
+        }
+
+        Material material = event.getItem().getType();
+        if (event.getDestination().getType() == InventoryType.PLAYER) {
+            itemCounts.addCount(player.getUniqueId(), material, event.getItem().getAmount());
+            BingoReloaded.scheduleTask(task -> completeItemCount(participant, player, material, null));
+        } else {
+            itemCounts.addCount(player.getUniqueId(), material, -event.getItem().getAmount());
+        }
+    }
+
     public void handlePlayerPickupItem(final EntityPickupItemEvent event) {
         if (!(event.getEntity() instanceof Player player)) {
             return;
@@ -313,8 +454,10 @@ public class TaskProgressTracker
 
         ItemStack stack = event.getItem().getItemStack();
         int amount = stack.getAmount();
-        stack = completeItemSlot(stack, participant);
-        if (amount != stack.getAmount()) {
+        completeItemCount(participant, player, stack.getType(), stack);
+        if (amount == stack.getAmount()) {
+            itemCounts.addCount(player.getUniqueId(), stack.getType(), amount);
+        } else {
             event.setCancelled(true);
             ItemStack resultStack = stack.clone();
             event.getItem().setItemStack(stack);
@@ -336,20 +479,60 @@ public class TaskProgressTracker
             return;
         }
 
+        Player player = event.getPlayer();
         BingoReloaded.scheduleTask(task -> {
             ItemStack stack = event.getItemDrop().getItemStack();
-            stack = completeItemSlot(stack, participant);
+            // The dropped items can come from anywhere in the inventory or cursor, so just count the rest again.
+            itemCounts.recount(player, stack.getType());
+            completeItemCount(participant, player, stack.getType(), stack);
         });
     }
 
+    /**
+     * Recount the inventories of all participants every few seconds, to correct counts that drifted from item changes without an event.
+     * Completes any item tasks that could be completed with the corrected counts.
+     * @param gameTime current game time in seconds.
+     */
+    public void updateItemCounts(long gameTime) {
+        int interval = game.getConfig().getOptionValue(BingoOptions.INVENTORY_RESCAN_INTERVAL);
+        if (interval <= 0 || gameTime % interval != 0) {
+            return;
+        }
+
+        for (BingoParticipant participant : game.getTeamManager().getParticipants()) {
+            Player player = participant.sessionPlayer().orElse(null);
+            if (player == null || getValidParticipant(player) == null) {
+                continue;
+            }
+
+            itemCounts.rescan(player);
+            GameTask deathMatchTask = game.getDeathMatchTask();
+            if (deathMatchTask != null) {
+                completeItemCount(participant, player, deathMatchTask.material(), null);
+                continue;
+            }
+            for (Material material : itemProgressIndex.keys()) {
+                completeItemCount(participant, player, material, null);
+            }
+        }
+    }
+
+    /**
+     * Forget the item counts of the participant, they get counted again by the next rescan.
+     */
+    public void removeParticipant(BingoParticipant participant) {
+        itemCounts.removePlayer(participant.getId());
+    }
+
     public void updateStatisticProgress() {
         statisticTracker.updateProgress();
     }
 
     public void removeTask(GameTask task) {
-        progressMap.remove(task);
+        stopTrackingTask(task);
         if (task.taskType() == TaskData.TaskType.STATISTIC) {
             statisticTracker.removeStatistic((StatisticTask) task.data);
+            updateSubscriptions();
         }
     }
 
@@ -396,23 +579,21 @@ public class TaskProgressTracker
     }
 
     /**
-     * update progress for given participant about the task given by the updateFunction, using the task's existing progress
-     * When the update function returns true the task is considered completed and will be removed from the tracker.
+     * Remove all progress of the given task from the tracker, including any indexed entries.
      */
-    private void updateProgressFromEvent(BingoParticipant participant, BiFunction<GameTask, TaskProgress, Boolean> updateFunction) {
-        Set<GameTask> tasksToRemove = new HashSet<>();
-        for (GameTask task : progressMap.keySet()) {
-            for (TaskProgress progress : progressMap.get(task)) {
-                if (!progress.participant.equals(participant)) {
-                    continue;
-                }
+    private void stopTrackingTask(GameTask task) {
+        List<TaskProgress> allProgress = progressMap.remove(task);
+        if (allProgress == null) {
+            return;
+        }
 
-                if (updateFunction.apply(task, progress)) {
-                    tasksToRemove.add(task);
-                }
+        for (TaskProgress progress : allProgress) {
+            switch (task.taskType()) {
+                case ITEM -> itemProgressIndex.remove(((ItemTask) task.data).material(), progress);
+                case ADVANCEMENT -> advancementProgressIndex.remove(((AdvancementTask) task.data).advancement().getKey(), progress);
+                case STATISTIC -> statisticProgressIndex.remove(((StatisticTask) task.data).statistic(), progress);
             }
         }
-
-        tasksToRemove.forEach(progressMap::remove);
+        updateSubscriptions();
     }
 }
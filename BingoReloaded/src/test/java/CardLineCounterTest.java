@@ -0,0 +1,56 @@
+import io.github.steaf23.bingoreloaded.cards.CardLineCounter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CardLineCounterTest
+{
+    @Test
+    public void completeRow() {
+        CardLineCounter lines = new CardLineCounter(5);
+        for (int x = 0; x < 4; x++) {
+            assertFalse(lines.markCompleted(10 + x));
+        }
+        assertFalse(lines.hasCompletedLine());
+        assertTrue(lines.markCompleted(14));
+        assertTrue(lines.hasCompletedLine());
+    }
+
+    @Test
+    public void completeColumn() {
+        CardLineCounter lines = new CardLineCounter(3);
+        assertFalse(lines.markCompleted(1));
+        assertFalse(lines.markCompleted(4));
+        assertTrue(lines.markCompleted(7));
+    }
+
+    @Test
+    public void completeDiagonals() {
+        CardLineCounter lines = new CardLineCounter(3);
+        assertFalse(lines.markCompleted(0));
+        assertFalse(lines.markCompleted(4));
+        assertTrue(lines.markCompleted(8));
+
+        lines = new CardLineCounter(3);
+        assertFalse(lines.markCompleted(2));
+        assertFalse(lines.markCompleted(4));
+        assertTrue(lines.markCompleted(6));
+    }
+
+    @Test
+    public void scatteredSlotsDoNotCompleteLine() {
+        // Two slots in every row and column, but no complete line.
+        CardLineCounter lines = new CardLineCounter(3);
+        for (int slot : new int[]{0, 1, 5, 3, 7, 8}) {
+            assertFalse(lines.markCompleted(slot));
+        }
+        assertFalse(lines.hasCompletedLine());
+    }
+
+    @Test
+    public void singleSlotCard() {
+        CardLineCounter lines = new CardLineCounter(1);
+        assertTrue(lines.markCompleted(0));
+    }
+}
@@ -0,0 +1,83 @@
+import io.github.steaf23.bingoreloaded.cards.hotswap.HotswapExpirationQueue;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HotswapExpirationQueueTest
+{
+    @Test
+    public void slotIsDueAfterScheduledTime() {
+        HotswapExpirationQueue queue = new HotswapExpirationQueue();
+        queue.schedule(3, 2);
+
+        assertEquals(2, queue.getTimeLeft(3));
+        assertTrue(queue.advance().isEmpty());
+        assertEquals(1, queue.getTimeLeft(3));
+        assertEquals(List.of(3), queue.advance());
+        assertEquals(0, queue.getTimeLeft(3));
+        assertTrue(queue.advance().isEmpty());
+    }
+
+    @Test
+    public void dueSlotsAreOrderedByDeadline() {
+        HotswapExpirationQueue queue = new HotswapExpirationQueue();
+        queue.schedule(4, 2);
+        queue.schedule(1, 3);
+        queue.schedule(2, 2);
+
+        queue.advance();
+        assertEquals(List.of(2, 4), queue.advance());
+        assertEquals(List.of(1), queue.advance());
+    }
+
+    @Test
+    public void rescheduleReplacesDeadline() {
+        HotswapExpirationQueue queue = new HotswapExpirationQueue();
+        queue.schedule(0, 1);
+        queue.schedule(0, 3);
+
+        assertEquals(3, queue.getTimeLeft(0));
+        assertTrue(queue.advance().isEmpty());
+        assertTrue(queue.advance().isEmpty());
+        assertEquals(List.of(0), queue.advance());
+
+        // Moving the deadline forward works as well.
+        queue.schedule(0, 5);
+        queue.schedule(0, 1);
+        assertEquals(List.of(0), queue.advance());
+        for (int i = 0; i < 5; i++) {
+            assertTrue(queue.advance().isEmpty());
+        }
+    }
+
+    @Test
+    public void cancelledSlotIsNeverDue() {
+        HotswapExpirationQueue queue = new HotswapExpirationQueue();
+        queue.schedule(5, 1);
+        queue.schedule(6, 1);
+        queue.cancel(5);
+
+        assertEquals(0, queue.getTimeLeft(5));
+        assertEquals(List.of(6), queue.advance());
+
+        // Scheduling a cancelled slot again only uses the new deadline.
+        queue.schedule(5, 2);
+        queue.cancel(5);
+        queue.schedule(5, 2);
+        assertTrue(queue.advance().isEmpty());
+        assertEquals(List.of(5), queue.advance());
+    }
+
+    @Test
+    public void clearRemovesAllDeadlines() {
+        HotswapExpirationQueue queue = new HotswapExpirationQueue();
+        queue.schedule(0, 1);
+        queue.schedule(1, 1);
+        queue.clear();
+
+        assertTrue(queue.advance().isEmpty());
+    }
+}
@@ -0,0 +1,113 @@
+import io.github.steaf23.bingoreloaded.cards.hotswap.HotswapTaskPool;
+import io.github.steaf23.bingoreloaded.tasks.data.ItemTask;
+import io.github.steaf23.bingoreloaded.tasks.data.TaskData;
+import org.bukkit.Material;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HotswapTaskPoolTest
+{
+    private static final List<TaskData> TASKS = List.of(
+            new ItemTask(Material.DIRT),
+            new ItemTask(Material.STONE),
+            new ItemTask(Material.OAK_LOG),
+            new ItemTask(Material.COBBLESTONE),
+            new ItemTask(Material.SAND));
+
+    @Test
+    public void eachTaskIsDrawnOncePerRound() {
+        HotswapTaskPool pool = new HotswapTaskPool(new Random(1));
+        pool.fill(TASKS);
+
+        for (int round = 0; round < 3; round++) {
+            Set<TaskData> drawn = new HashSet<>();
+            for (int i = 0; i < TASKS.size(); i++) {
+                TaskData task = pool.draw();
+                assertNotNull(task);
+                assertTrue(drawn.add(task), "task drawn twice in one round: " + task);
+            }
+            assertEquals(Set.copyOf(TASKS), drawn);
+        }
+    }
+
+    @Test
+    public void tasksOnCardAreSkippedAfterRefill() {
+        HotswapTaskPool pool = new HotswapTaskPool(new Random(2));
+        pool.fill(TASKS);
+        // Different count, but still the same task.
+        pool.addToCard(new ItemTask(Material.DIRT, 12));
+        pool.addToCard(new ItemTask(Material.STONE));
+
+        for (int round = 0; round < 3; round++) {
+            Set<TaskData> drawn = new HashSet<>();
+            for (int i = 0; i < TASKS.size() - 2; i++) {
+                drawn.add(pool.draw());
+            }
+            assertEquals(Set.of(TASKS.get(2), TASKS.get(3), TASKS.get(4)), drawn);
+        }
+
+        pool.removeFromCard(new ItemTask(Material.STONE));
+        Set<TaskData> drawn = new HashSet<>();
+        for (int i = 0; i < TASKS.size() - 1; i++) {
+            drawn.add(pool.draw());
+        }
+        assertFalse(drawn.contains(TASKS.get(0)));
+        assertTrue(drawn.contains(TASKS.get(1)));
+    }
+
+    @Test
+    public void addingToCardDuringRoundRemovesTaskFromRound() {
+        HotswapTaskPool pool = new HotswapTaskPool(new Random(3));
+        pool.fill(TASKS);
+
+        TaskData first = pool.draw();
+        TaskData excluded = TASKS.stream().filter(t -> !t.equals(first)).findFirst().orElseThrow();
+        pool.addToCard(excluded);
+        // Adding the same task again should not take another task out of the round.
+        pool.addToCard(excluded);
+
+        Set<TaskData> drawn = new HashSet<>();
+        for (int i = 0; i < TASKS.size() - 2; i++) {
+            drawn.add(pool.draw());
+        }
+        assertEquals(TASKS.size() - 2, drawn.size());
+        assertFalse(drawn.contains(first));
+        assertFalse(drawn.contains(excluded));
+    }
+
+    @Test
+    public void drawReturnsNullWhenAllTasksAreOnCard() {
+        HotswapTaskPool pool = new HotswapTaskPool(new Random(4));
+        pool.fill(TASKS);
+        TASKS.forEach(pool::addToCard);
+
+        assertNull(pool.draw());
+
+        pool.clearCard();
+        assertNotNull(pool.draw());
+    }
+
+    @Test
+    public void equalTasksAreOnlyAddedOnce() {
+        HotswapTaskPool pool = new HotswapTaskPool(new Random(5));
+        pool.fill(List.of(
+                new ItemTask(Material.DIRT),
+                new ItemTask(Material.DIRT, 32),
+                new ItemTask(Material.STONE)));
+
+        Set<TaskData> drawn = new HashSet<>();
+        drawn.add(pool.draw());
+        drawn.add(pool.draw());
+        assertEquals(Set.of(new ItemTask(Material.DIRT), new ItemTask(Material.STONE)), drawn);
+    }
+}
@@ -65,6 +65,17 @@ public class ItemTemplate
     private int customModelData = 0;
     private ItemTemplate texturedVariant = null;
 
+    // Item built from this template, shared with unchanged copies of this template.
+    private static class BuiltItemCache
+    {
+        private ItemStack item = null;
+        private boolean hideAttributes = false;
+        private boolean textured = false;
+    }
+
+    // Set by cacheBuiltItem(), this template gets a cache of its own whenever it gets changed.
+    private BuiltItemCache builtItemCache = null;
+
     private MenuAction action;
 
     public ItemTemplate(Material material) {
@@ -107,7 +118,7 @@ public class ItemTemplate
 
     public ItemTemplate setName(@Nullable Component name) {
         this.name = name;
-        return this;
+        return changed();
     }
 
     /**
@@ -136,7 +147,7 @@ public class ItemTemplate
         }
 
         this.description.put(name, new DescriptionSection(priority, description));
-        return this;
+        return changed();
     }
 
     public int getSlot() {
@@ -154,7 +165,7 @@ public class ItemTemplate
 
     public ItemTemplate setMaterial(Material material) {
         this.material = material;
-        return this;
+        return changed();
     }
 
     public int getAmount() {
@@ -167,7 +178,7 @@ public class ItemTemplate
      */
     public ItemTemplate setAmount(int amount) {
         this.amount = Math.clamp(amount, 1, 64);
-        return this;
+        return changed();
     }
 
     public boolean isGlowing() {
@@ -179,7 +190,7 @@ public class ItemTemplate
      */
     public ItemTemplate setGlowing(boolean enable) {
         this.glowing = enable;
-        return this;
+        return changed();
     }
 
     /**
@@ -188,7 +199,7 @@ public class ItemTemplate
      */
     public ItemTemplate setCompareKey(String key) {
         this.compareKey = key;
-        return this;
+        return changed();
     }
 
     /**
@@ -251,7 +262,7 @@ public class ItemTemplate
      */
     public ItemTemplate addEnchantment(Enchantment enchantment, int level) {
         this.enchantments.put(enchantment, level);
-        return this;
+        return changed();
     }
 
     /**
@@ -259,7 +270,7 @@ public class ItemTemplate
      */
     public ItemTemplate setDamage(int byAmount) {
         currentDamage = Math.max(currentDamage - byAmount, 0);
-        return this;
+        return changed();
     }
 
     /**
@@ -270,22 +281,22 @@ public class ItemTemplate
     public ItemTemplate setMaxDamage(@Nullable Integer damage) {
         maxDamage = damage;
         currentDamage = maxDamage == null ? 0 : maxDamage;
-        return this;
+        return changed();
     }
 
     public ItemTemplate setMaxStackSize(int stackSize) {
         maxStackSize = Math.clamp(stackSize, 1, 64);
-        return this;
+        return changed();
     }
 
     public ItemTemplate resetMaxStackSize() {
         maxStackSize = null;
-        return this;
+        return changed();
     }
 
     public ItemTemplate setCustomModelData(int data) {
         this.customModelData = data;
-        return this;
+        return changed();
     }
 
     /**
@@ -293,7 +304,7 @@ public class ItemTemplate
      */
     public ItemTemplate setTexturedVariant(ItemTemplate item) {
         this.texturedVariant = item;
-        return this;
+        return changed();
     }
 
     public void useItem(MenuAction.ActionArguments arguments) {
@@ -329,6 +340,7 @@ public class ItemTemplate
         copy.currentDamage = currentDamage;
         copy.customModelData = customModelData;
         copy.texturedVariant = texturedVariant == null ? null : texturedVariant.copy();
+        copy.builtItemCache = builtItemCache;
         return copy;
     }
 
@@ -355,6 +367,24 @@ public class ItemTemplate
 
     public ItemTemplate addMetaModifier(Function<ItemMeta, ItemMeta> metaModifier) {
         this.metaModifiers.add(metaModifier);
+        return changed();
+    }
+
+    /**
+     * Keep the item built by buildItem() and return copies of it on the following calls, until this template gets changed.
+     * Copies of this template share the built item with this template (also when it gets built after copying), until they are changed themselves.
+     * Only use this if the meta modifiers of this template do not depend on state that can change without changing the template.
+     */
+    public ItemTemplate cacheBuiltItem() {
+        this.builtItemCache = new BuiltItemCache();
+        return this;
+    }
+
+    private ItemTemplate changed() {
+        if (builtItemCache != null) {
+            // Detach from the cache shared with other copies, since they still show the old state.
+            builtItemCache = new BuiltItemCache();
+        }
         return this;
     }
 
@@ -370,7 +400,20 @@ public class ItemTemplate
      * @return Item built from this template.
      */
     public ItemStack buildItem(boolean hideAttributes) {
-        return buildItem(hideAttributes, PlayerDisplay.useCustomTextures());
+        boolean textured = PlayerDisplay.useCustomTextures();
+        BuiltItemCache cache = builtItemCache;
+        if (cache == null) {
+            return buildItem(hideAttributes, textured);
+        }
+
+        synchronized (cache) {
+            if (cache.item == null || cache.hideAttributes != hideAttributes || cache.textured != textured) {
+                cache.item = buildItem(hideAttributes, textured);
+                cache.hideAttributes = hideAttributes;
+                cache.textured = textured;
+            }
+            return cache.item.clone();
+        }
     }
 
     private ItemStack buildItem(boolean hideAttributes, boolean textured) {
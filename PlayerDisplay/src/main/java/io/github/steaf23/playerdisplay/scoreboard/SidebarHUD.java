@@ -14,26 +14,35 @@ import org.bukkit.scoreboard.Team;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
+/**
+ * Sidebar shown to its subscribers on a scoreboard of its own.
+ * The last title and text of each line are kept, so that setting them only sends an update when they have changed.
+ */
 public class SidebarHUD
 {
     private final Set<UUID> subscribers;
     private final Scoreboard board;
     private final Objective sidebar;
+    private Component title;
+    private final Component[] lines;
 
     public SidebarHUD(Component initialTitle) {
         this.board = Bukkit.getScoreboardManager().getNewScoreboard();
         this.sidebar = board.registerNewObjective("info", Criteria.DUMMY, initialTitle);
         sidebar.setDisplaySlot(DisplaySlot.SIDEBAR);
         sidebar.numberFormat(NumberFormat.blank());
+        this.title = initialTitle;
         this.subscribers = new HashSet<>();
+        // New lines have no text and no score, so there is nothing to show until text gets set.
+        this.lines = new Component[15];
 
         for (int i = 0; i < 15; i++) {
             Team team = board.registerNewTeam("LINE_" + i);
             team.addEntry(getEntry(i));
-            setText(i, null);
         }
     }
 
@@ -45,7 +54,10 @@ public class SidebarHUD
 
     public void applyToPlayer(Player player) {
         subscribers.add(player.getUniqueId());
-        player.setScoreboard(board);
+        // Setting the scoreboard resends the whole board, so only do it when the player is not already looking at it (i.e. after rejoining).
+        if (player.getScoreboard() != board) {
+            player.setScoreboard(board);
+        }
     }
 
     public void removeFromPlayer(Player player) {
@@ -54,6 +66,10 @@ public class SidebarHUD
     }
 
     public void setTitle(Component title) {
+        if (title.equals(this.title)) {
+            return;
+        }
+        this.title = title;
         sidebar.displayName(title);
     }
 
@@ -64,11 +80,17 @@ public class SidebarHUD
             return;
         }
 
+        if (Objects.equals(text, lines[lineNumber])) {
+            return;
+        }
+        boolean hadText = lines[lineNumber] != null;
+        lines[lineNumber] = text;
+
         Team team = board.getTeam("LINE_" + lineNumber);
         team.prefix(text);
         if (text == null)
             board.resetScores(getEntry(lineNumber));
-        else
+        else if (!hadText)
             sidebar.getScore(getEntry(lineNumber)).setScore(0);
     }
 